@@ -23,4 +23,7 @@ public class KafkaConsumerConfigData {
     private Integer maxPollRecords;
     private Integer maxPartitionFetchBytesDefault;
     private Integer maxPartitionFetchBytesBoostFactor;
+    private Boolean virtualThreads = false;
+    private Long retryBackoffMs = 1000L;
+    private Long retryMaxBackoffMs = 60000L;
 }
\ No newline at end of file
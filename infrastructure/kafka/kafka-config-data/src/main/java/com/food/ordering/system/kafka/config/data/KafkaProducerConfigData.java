@@ -17,4 +17,14 @@ public class KafkaProducerConfigData {
     private Integer lingerMs;
     private Integer requestTimeoutMs;
     private Integer retryCount;
+    /**
+     * Upper bound of asynchronous sends waiting for a broker ack, senders block
+     * up to maxInFlightWaitMs for a free slot before failing
+     */
+    private Integer maxInFlightSends = 1000;
+    private Long maxInFlightWaitMs = 5000L;
+    /**
+     * One acknowledged send in every successLogSampleRate is logged, 1 logs them all
+     */
+    private Integer successLogSampleRate = 100;
 }
\ No newline at end of file
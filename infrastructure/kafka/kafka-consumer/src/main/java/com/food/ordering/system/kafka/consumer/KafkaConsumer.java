@@ -3,7 +3,12 @@ package com.food.ordering.system.kafka.consumer;
 import org.apache.avro.specific.SpecificRecordBase;
 
 import java.util.List;
+import java.util.Map;
 
 public interface KafkaConsumer<T extends SpecificRecordBase> {
-    void receive(List<T> messages, List<String> keys, List<Integer> partitions, List<Long> offsets);
+    /**
+     * headers are the headers of each message, they carry the trace context of its producer
+     */
+    void receive(List<T> messages, List<String> keys, List<Integer> partitions, List<Long> offsets,
+                 List<Map<String, Object>> headers);
 }
@@ -0,0 +1,74 @@
+package com.food.ordering.system.kafka.consumer;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.BatchInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Size of the polled batches by topic and processing lag by partition, the time between
+ * the broker timestamp of the oldest record of the partition in a batch and its hand off to
+ * the listener. Meters are registered on the first batch of a topic or partition and kept
+ * by it, later batches do not look them up in the registry
+ */
+public class KafkaConsumerMetrics<K, V> implements BatchInterceptor<K, V> {
+
+    private static final String BATCH_SIZE_SUMMARY = "kafka.consumer.batch.size";
+    private static final String LAG_TIMER = "kafka.consumer.lag";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, DistributionSummary> batchSizeByTopic = new ConcurrentHashMap<>();
+    private final Map<TopicPartition, Timer> lagByPartition = new ConcurrentHashMap<>();
+
+    public KafkaConsumerMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * A listener container consumes a single topic, so the batch is counted under the
+     * topic of its first partition
+     */
+    @Override
+    public ConsumerRecords<K, V> intercept(ConsumerRecords<K, V> records, Consumer<K, V> consumer) {
+        if (records.isEmpty()) {
+            return records;
+        }
+        long now = System.currentTimeMillis();
+        String topic = null;
+        for (TopicPartition partition : records.partitions()) {
+            if (topic == null) {
+                topic = partition.topic();
+            }
+            long oldestTimestamp = records.records(partition).get(0).timestamp();
+            lagByPartition.computeIfAbsent(partition, this::registerLagTimer)
+                    .record(Math.max(0L, now - oldestTimestamp), TimeUnit.MILLISECONDS);
+        }
+        batchSizeByTopic.computeIfAbsent(topic, this::registerBatchSizeSummary).record(records.count());
+        return records;
+    }
+
+    private DistributionSummary registerBatchSizeSummary(String topic) {
+        return DistributionSummary.builder(BATCH_SIZE_SUMMARY)
+                .description("Records handed to the listener in one poll")
+                .baseUnit("records")
+                .tag("topic", topic)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Timer registerLagTimer(TopicPartition partition) {
+        return Timer.builder(LAG_TIMER)
+                .description("Time from the broker timestamp of the oldest record of a batch until it is processed")
+                .tag("topic", partition.topic())
+                .tag("partition", String.valueOf(partition.partition()))
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
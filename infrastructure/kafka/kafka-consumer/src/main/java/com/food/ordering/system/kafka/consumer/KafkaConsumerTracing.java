@@ -0,0 +1,107 @@
+package com.food.ordering.system.kafka.consumer;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Continues the traces of the records of a batch. A batch is processed as a whole, so it
+ * gets a span of its own, current while it is processed, and every record carrying a trace
+ * context gets a consumer span in the trace of its producer covering the same time, tagged
+ * with the trace id of the batch span
+ */
+@Component
+@RequiredArgsConstructor
+public class KafkaConsumerTracing {
+
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    /**
+     * recordHeaders are the headers of each record of the batch as converted by the listener
+     * container, null when the container does not map them
+     */
+    public void traceBatch(String topicName, int recordCount, List<Map<String, Object>> recordHeaders,
+                           Runnable batchProcessing) {
+        Span batchSpan = tracer.spanBuilder()
+                .name(topicName + " process batch")
+                .kind(Span.Kind.CONSUMER)
+                .remoteServiceName("kafka")
+                .tag("messaging.system", "kafka")
+                .tag("messaging.destination", topicName)
+                .tag("messaging.batch.message_count", String.valueOf(recordCount))
+                .start();
+        List<Span> recordSpans = startRecordSpans(topicName, recordHeaders, batchSpan.context().traceId());
+        Throwable failure = null;
+        try (Tracer.SpanInScope ignored = tracer.withSpan(batchSpan)) {
+            batchProcessing.run();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            for (Span recordSpan : recordSpans) {
+                endSpan(recordSpan, failure);
+            }
+            endSpan(batchSpan, failure);
+        }
+    }
+
+    /**
+     * Records without a trace context would each start a trace of their own, they are left out
+     */
+    private List<Span> startRecordSpans(String topicName, List<Map<String, Object>> recordHeaders,
+                                        String batchTraceId) {
+        List<Span> recordSpans = new ArrayList<>();
+        if (recordHeaders == null) {
+            return recordSpans;
+        }
+        for (Map<String, Object> headers : recordHeaders) {
+            if (!hasTraceContext(headers)) {
+                continue;
+            }
+            recordSpans.add(propagator.extract(headers, KafkaConsumerTracing::getHeader)
+                    .name(topicName + " process")
+                    .kind(Span.Kind.CONSUMER)
+                    .remoteServiceName("kafka")
+                    .tag("messaging.system", "kafka")
+                    .tag("messaging.destination", topicName)
+                    .tag("messaging.batch.trace_id", batchTraceId)
+                    .start());
+        }
+        return recordSpans;
+    }
+
+    private boolean hasTraceContext(Map<String, Object> headers) {
+        if (headers == null) {
+            return false;
+        }
+        for (String field : propagator.fields()) {
+            if (headers.containsKey(field)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String getHeader(Map<String, Object> headers, String name) {
+        Object value = headers.get(name);
+        if (value instanceof byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value == null ? null : value.toString();
+    }
+
+    private static void endSpan(Span span, Throwable failure) {
+        if (failure != null) {
+            span.error(failure);
+        }
+        span.end();
+    }
+}
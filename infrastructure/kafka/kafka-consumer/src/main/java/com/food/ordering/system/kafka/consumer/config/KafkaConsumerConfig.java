@@ -2,16 +2,26 @@ package com.food.ordering.system.kafka.consumer.config;
 
 import com.food.ordering.system.kafka.config.data.KafkaConfigData;
 import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.consumer.KafkaConsumerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.apache.avro.specific.SpecificRecordBase;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.listener.CommonErrorHandler;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.ExponentialBackOff;
 
 import java.io.Serializable;
 import java.util.HashMap;
@@ -21,8 +31,12 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecordBase> {
 
+    private static final double RETRY_BACKOFF_MULTIPLIER = 2.0;
+
     private final KafkaConfigData kafkaConfigData;
     private final KafkaConsumerConfigData kafkaConsumerConfigData;
+    private final ObjectProvider<Deserializer<SpecificRecordBase>> valueDeserializer;
+    private final MeterRegistry meterRegistry;
 
     @Bean
     public Map<String, Object> consumerConfigs() {
@@ -43,19 +57,57 @@ public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecor
         return props;
     }
 
+    /**
+     * A value deserializer bean, when the service defines one, replaces the configured
+     * value deserializer class and is shared by all the consumers. The client metrics of
+     * the consumers, records-lag by partition among them, are bound to the meter registry
+     */
     @Bean
+    @SuppressWarnings("unchecked")
     public ConsumerFactory<K, V> consumerFactory() {
-        return new DefaultKafkaConsumerFactory<>(consumerConfigs());
+        DefaultKafkaConsumerFactory<K, V> consumerFactory = new DefaultKafkaConsumerFactory<>(consumerConfigs(),
+                (Deserializer<K>) null, (Deserializer<V>) valueDeserializer.getIfAvailable());
+        consumerFactory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return consumerFactory;
     }
 
+    /**
+     * Offsets of a poll are committed once the listener returns, a batch failing in the
+     * listener is retried by the error handler and its offsets are not committed until
+     * it succeeds. Batch sizes and lag are recorded
+     * before a batch is handed to the listener. With virtualThreads every consumer polls and
+     * runs its listener on a virtual thread of its own
+     */
     @Bean
     public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<K, V>> kafkaListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<K, V> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
         factory.setBatchListener(kafkaConsumerConfigData.getBatchListener());
+        factory.setBatchInterceptor(new KafkaConsumerMetrics<>(meterRegistry));
         factory.setConcurrency(kafkaConsumerConfigData.getConcurrencyLevel());
         factory.setAutoStartup(kafkaConsumerConfigData.getAutoStartup());
+        factory.setCommonErrorHandler(kafkaErrorHandler());
         factory.getContainerProperties().setPollTimeout(kafkaConsumerConfigData.getPollTimeoutMs());
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        if (kafkaConsumerConfigData.getVirtualThreads()) {
+            factory.getContainerProperties().setListenerTaskExecutor(
+                    new SimpleAsyncTaskExecutor(Thread.ofVirtual().name("kafka-listener-", 0).factory()));
+        }
         return factory;
     }
+
+    /**
+     * A failing batch is retried with the consumer paused, waiting retryBackoffMs doubled on
+     * every attempt up to retryMaxBackoffMs, and never given up. The default handler logs the
+     * batch and commits its offsets after 9 immediate retries, which drops responses that only
+     * failed because the database was down for a moment. Records the listener cannot convert
+     * are still logged and skipped at once
+     */
+    @Bean
+    public CommonErrorHandler kafkaErrorHandler() {
+        ExponentialBackOff backOff = new ExponentialBackOff(kafkaConsumerConfigData.getRetryBackoffMs(),
+                RETRY_BACKOFF_MULTIPLIER);
+        backOff.setMaxInterval(kafkaConsumerConfigData.getRetryMaxBackoffMs());
+        return new DefaultErrorHandler(backOff);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.food.ordering.system.kafka.consumer;
+
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class KafkaConsumerTracingTest {
+
+    private static final String TOPIC_NAME = "payment-response";
+    private static final String PRODUCER_TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String PRODUCER_SPAN_ID = "00f067aa0ba902b7";
+
+    private final InMemorySpanExporter spanExporter = InMemorySpanExporter.create();
+    private Tracer tracer;
+    private KafkaConsumerTracing kafkaConsumerTracing;
+
+    @BeforeEach
+    void init() {
+        OpenTelemetrySdk openTelemetry = OpenTelemetrySdk.builder()
+                .setTracerProvider(SdkTracerProvider.builder()
+                        .addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+                        .build())
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .build();
+        io.opentelemetry.api.trace.Tracer otelTracer = openTelemetry.getTracer("test");
+        tracer = new OtelTracer(otelTracer, new OtelCurrentTraceContext(), event -> {
+        });
+        kafkaConsumerTracing = new KafkaConsumerTracing(tracer,
+                new OtelPropagator(openTelemetry.getPropagators(), otelTracer));
+    }
+
+    @Test
+    void traceBatch_whenRecordHasTraceContext_thenRecordSpanContinuesProducerTrace() {
+        Map<String, Object> tracedHeaders = Map.of("traceparent",
+                ("00-" + PRODUCER_TRACE_ID + "-" + PRODUCER_SPAN_ID + "-01").getBytes(StandardCharsets.UTF_8));
+        AtomicReference<String> batchTraceId = new AtomicReference<>();
+
+        kafkaConsumerTracing.traceBatch(TOPIC_NAME, 2, List.of(tracedHeaders, Map.of()),
+                () -> batchTraceId.set(tracer.currentSpan().context().traceId()));
+
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        assertEquals(2, spans.size());
+        SpanData recordSpan = spans.stream()
+                .filter(span -> span.getName().equals(TOPIC_NAME + " process"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(PRODUCER_TRACE_ID, recordSpan.getTraceId());
+        assertEquals(PRODUCER_SPAN_ID, recordSpan.getParentSpanId());
+        assertEquals(batchTraceId.get(),
+                recordSpan.getAttributes().get(AttributeKey.stringKey("messaging.batch.trace_id")));
+    }
+}
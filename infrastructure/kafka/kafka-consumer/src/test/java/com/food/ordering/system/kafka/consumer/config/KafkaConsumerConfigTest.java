@@ -0,0 +1,49 @@
+package com.food.ordering.system.kafka.consumer.config;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KafkaConsumerConfigTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void kafkaErrorHandler_whenBatchKeepsFailing_thenRetriedUntilItSucceeds() {
+        KafkaConsumerConfigData configData = new KafkaConsumerConfigData();
+        configData.setRetryBackoffMs(1L);
+        configData.setRetryMaxBackoffMs(2L);
+        CommonErrorHandler errorHandler =
+                new KafkaConsumerConfig<String, SpecificRecordBase>(null, configData, null, null).kafkaErrorHandler();
+        Consumer<String, String> consumer = mock(Consumer.class);
+        when(consumer.poll(any())).thenReturn(ConsumerRecords.empty());
+        MessageListenerContainer container = mock(MessageListenerContainer.class);
+        when(container.isRunning()).thenReturn(true);
+        TopicPartition topicPartition = new TopicPartition("payment-response", 0);
+        ConsumerRecords<String, String> records = new ConsumerRecords<>(
+                Map.of(topicPartition, List.of(new ConsumerRecord<>("payment-response", 0, 0L, "key", "value"))));
+        AtomicInteger attempts = new AtomicInteger();
+
+        errorHandler.handleBatch(new IllegalStateException("database down"), records, consumer, container, () -> {
+            if (attempts.incrementAndGet() < 20) {
+                throw new IllegalStateException("database down");
+            }
+        });
+
+        assertEquals(20, attempts.get());
+    }
+}
@@ -1,16 +1,25 @@
 package com.food.ordering.system.kafka.producer;
 
-import lombok.extern.slf4j.Slf4j;
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import com.food.ordering.system.order.service.domain.utils.LogSampler;
+import com.food.ordering.system.order.service.domain.utils.MessageLogger;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 import org.springframework.util.concurrent.ListenableFutureCallback;
 
-@Slf4j
+import java.util.function.BiConsumer;
+
+/**
+ * Failures are all logged with the order id of the message, successes are sampled
+ * since every acknowledged send would otherwise write a line
+ */
 @Component
 public class KafkaMessageHelper {
 
-    public static final String KAFKA_FAILURE_SENDING_MESSAGE = "Error while sending %s message %s to topic %s";
+    private static final MessageLogger log = MessageLogger.getLogger(KafkaMessageHelper.class);
+
+    public static final String KAFKA_FAILURE_SENDING_MESSAGE = "Error while sending %s message for order id: %s to topic %s";
     public static final String KAFKA_SUCCESS_SENDING_MESSAGE = "Received successful response from Kafka for " +
             "order id: %s - " +
             "Topic: %s - " +
@@ -18,28 +27,52 @@ public class KafkaMessageHelper {
             "Offset: %s - " +
             "Timestamp: %s";
 
+    private final LogSampler successLogSampler;
+
+    public KafkaMessageHelper(KafkaProducerConfigData kafkaProducerConfigData) {
+        this.successLogSampler = new LogSampler(kafkaProducerConfigData.getSuccessLogSampleRate());
+    }
 
     public <T> ListenableFutureCallback<SendResult<String, T>>
-    getKafkaCallback(String responseTopicName, T avroModel, String orderId, String avroModelName) {
+    getKafkaCallback(String responseTopicName, String orderId, String avroModelName) {
         return new ListenableFutureCallback<SendResult<String, T>>() {
             @Override
             public void onFailure(Throwable ex) {
-
-                var messageFailure = String.format(KAFKA_FAILURE_SENDING_MESSAGE,
-                        avroModelName, avroModel.toString(), responseTopicName);
-                log.error(messageFailure, ex);
+                log.error(KAFKA_FAILURE_SENDING_MESSAGE, avroModelName, orderId, responseTopicName, ex);
             }
 
             @Override
             public void onSuccess(SendResult<String, T> result) {
-                RecordMetadata metadata = result.getRecordMetadata();
-                log.info(String.format(KAFKA_SUCCESS_SENDING_MESSAGE,
-                        orderId,
-                        metadata.topic(),
-                        metadata.partition(),
-                        metadata.offset(),
-                        metadata.timestamp()));
+                logSuccess(result, orderId);
             }
         };
     }
+
+    /**
+     * Same callback for {@link com.food.ordering.system.kafka.producer.service.KafkaProducer#sendAsync},
+     * a failure only surfaces here because the sender does not wait for the broker ack
+     */
+    public <T> BiConsumer<SendResult<String, T>, Throwable>
+    getKafkaAsyncCallback(String responseTopicName, String orderId, String avroModelName) {
+        return (result, throwable) -> {
+            if (throwable != null) {
+                log.error(KAFKA_FAILURE_SENDING_MESSAGE, avroModelName, orderId, responseTopicName, throwable);
+            } else {
+                logSuccess(result, orderId);
+            }
+        };
+    }
+
+    private <T> void logSuccess(SendResult<String, T> result, String orderId) {
+        if (!log.isInfoEnabled() || !successLogSampler.sample()) {
+            return;
+        }
+        RecordMetadata metadata = result.getRecordMetadata();
+        log.info(KAFKA_SUCCESS_SENDING_MESSAGE,
+                orderId,
+                metadata.topic(),
+                metadata.partition(),
+                metadata.offset(),
+                metadata.timestamp());
+    }
 }
\ No newline at end of file
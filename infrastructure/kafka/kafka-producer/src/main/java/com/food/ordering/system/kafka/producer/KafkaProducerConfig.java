@@ -2,12 +2,16 @@ package com.food.ordering.system.kafka.producer;
 
 import com.food.ordering.system.kafka.config.data.KafkaConfigData;
 import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
 
 import java.io.Serializable;
@@ -30,6 +34,8 @@ public class KafkaProducerConfig<K extends Serializable, V extends SpecificRecor
 
     private final KafkaConfigData kafkaConfigData;
     private final KafkaProducerConfigData kafkaProducerConfigData;
+    private final ObjectProvider<Serializer<SpecificRecordBase>> valueSerializer;
+    private final MeterRegistry meterRegistry;
 
     @Bean
     public Map<String, Object> producerConfig() {
@@ -48,9 +54,18 @@ public class KafkaProducerConfig<K extends Serializable, V extends SpecificRecor
         return props;
     }
 
+    /**
+     * A value serializer bean, when the service defines one, replaces the configured
+     * value serializer class and is shared by all the producers. The client metrics of the
+     * producers are bound to the meter registry
+     */
     @Bean
+    @SuppressWarnings("unchecked")
     public ProducerFactory<K, V> producerFactory() {
-        return new DefaultKafkaProducerFactory<>(producerConfig());
+        DefaultKafkaProducerFactory<K, V> producerFactory = new DefaultKafkaProducerFactory<>(producerConfig(),
+                (Serializer<K>) null, (Serializer<V>) valueSerializer.getIfAvailable());
+        producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return producerFactory;
     }
 
     @Bean
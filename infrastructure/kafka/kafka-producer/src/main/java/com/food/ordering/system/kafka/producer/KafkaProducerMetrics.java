@@ -0,0 +1,56 @@
+package com.food.ordering.system.kafka.producer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Send latency by topic and outcome, the error rate is the error count over all sends.
+ * The timers of a topic are registered together on its first send and kept by topic name,
+ * later sends do not look them up in the registry
+ */
+@Component
+public class KafkaProducerMetrics {
+
+    private static final String SEND_TIMER = "kafka.producer.send";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, SendTimers> sendTimersByTopic = new ConcurrentHashMap<>();
+
+    public KafkaProducerMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * start is the System.nanoTime the send started at
+     */
+    public void recordSend(String topicName, long start, Throwable throwable) {
+        var sendTimers = sendTimersByTopic.computeIfAbsent(topicName, this::registerSendTimers);
+        (throwable == null ? sendTimers.success : sendTimers.error)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private SendTimers registerSendTimers(String topicName) {
+        return new SendTimers(sendTimer(topicName, "success"), sendTimer(topicName, "error"));
+    }
+
+    private Timer sendTimer(String topicName, String outcome) {
+        return Timer.builder(SEND_TIMER)
+                .description("Time from handing a message to the producer until the broker acknowledged or failed it")
+                .tag("topic", topicName)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @RequiredArgsConstructor
+    private static class SendTimers {
+        private final Timer success;
+        private final Timer error;
+    }
+}
@@ -5,7 +5,15 @@ import org.springframework.kafka.support.SendResult;
 
 import java.io.Serializable;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
 
 public interface KafkaProducer<K extends Serializable, V extends SpecificRecordBase> {
     void send(String topicName, K key, V message, CompletableFuture<SendResult<K, V>> callback);
+
+    /**
+     * Returns as soon as the record is handed to the producer, the callback runs on the
+     * producer network thread once the broker acks or the send fails
+     */
+    CompletableFuture<SendResult<K, V>> sendAsync(String topicName, K key, V message,
+                                                  BiConsumer<SendResult<K, V>, Throwable> callback);
 }
\ No newline at end of file
@@ -1,44 +1,170 @@
 package com.food.ordering.system.kafka.producer.service.impl;
 
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import com.food.ordering.system.kafka.producer.KafkaProducerMetrics;
 import com.food.ordering.system.kafka.producer.exception.KafkaProducerException;
 import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.order.service.domain.utils.MessageLogger;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
 import jakarta.annotation.PreDestroy;
-import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
 import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 
 import static com.food.ordering.system.order.service.domain.utils.MessageConstants.CLOSING_KAFKA_PRODUCER;
 import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ERROR_PRODUCER_MESSAGE;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.KAFKA_PRODUCER_INTERRUPTED;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.KAFKA_PRODUCER_TOO_MANY_IN_FLIGHT;
 import static com.food.ordering.system.order.service.domain.utils.MessageConstants.SENDING_MESSAGE_TO_TOPIC;
 
-@Slf4j
+/**
+ * Messages are logged by key, the payload is never formatted into a log line. Every send
+ * is timed by topic and outcome, from the call until the broker acknowledged or failed it.
+ * A producer span, child of the current span, covers the same time and its context is
+ * written to the record headers for the consumers to continue the trace
+ */
 @Component
 public class KafkaProducerImpl<K extends Serializable, V extends SpecificRecordBase> implements KafkaProducer<K, V> {
 
+    private static final MessageLogger log = MessageLogger.getLogger(KafkaProducerImpl.class);
+
     private final KafkaTemplate<K, V> kafkaTemplate;
+    private final KafkaProducerMetrics kafkaProducerMetrics;
+    private final Tracer tracer;
+    private final Propagator propagator;
+    private final Semaphore inFlightSends;
+    private final long maxInFlightWaitMs;
 
-    public KafkaProducerImpl(KafkaTemplate<K, V> kafkaTemplate) {
+    public KafkaProducerImpl(KafkaTemplate<K, V> kafkaTemplate,
+                             KafkaProducerConfigData kafkaProducerConfigData,
+                             KafkaProducerMetrics kafkaProducerMetrics,
+                             Tracer tracer,
+                             Propagator propagator) {
         this.kafkaTemplate = kafkaTemplate;
+        this.kafkaProducerMetrics = kafkaProducerMetrics;
+        this.tracer = tracer;
+        this.propagator = propagator;
+        this.inFlightSends = new Semaphore(kafkaProducerConfigData.getMaxInFlightSends());
+        this.maxInFlightWaitMs = kafkaProducerConfigData.getMaxInFlightWaitMs();
     }
 
+    /**
+     * Failed sends, whether thrown by the template or by the returned future, are timed as errors
+     */
     @Override
     public void send(String topicName, K key, V message, CompletableFuture<SendResult<K, V>> callback) {
-        log.info(String.format(SENDING_MESSAGE_TO_TOPIC, message, topicName));
+        log.debug(SENDING_MESSAGE_TO_TOPIC, key, topicName);
+        long start = System.nanoTime();
+        Span span = startSendSpan(topicName);
+        SendResult<K, V> sendResult;
         try {
             CompletableFuture<SendResult<K, V>> kafkaResultFuture = kafkaTemplate
-                    .send(topicName, key, message)
+                    .send(tracedRecord(topicName, key, message, span))
                     .completable();
-            callback.complete(kafkaResultFuture.join());
+            sendResult = kafkaResultFuture.join();
         } catch (KafkaException e) {
-            String errorMessage = String.format(ERROR_PRODUCER_MESSAGE, key, message, e.getMessage());
-            log.error(errorMessage);
-            throw new KafkaProducerException(errorMessage, e);
+            kafkaProducerMetrics.recordSend(topicName, start, e);
+            endSendSpan(span, e);
+            log.error(ERROR_PRODUCER_MESSAGE, key, topicName, e.getMessage(), e);
+            throw new KafkaProducerException(String.format(ERROR_PRODUCER_MESSAGE, key, topicName, e.getMessage()), e);
+        } catch (RuntimeException e) {
+            kafkaProducerMetrics.recordSend(topicName, start, e);
+            endSendSpan(span, e);
+            throw e;
+        }
+        kafkaProducerMetrics.recordSend(topicName, start, null);
+        endSendSpan(span, null);
+        callback.complete(sendResult);
+    }
+
+    /**
+     * The in-flight permit is released before the callback runs, so a failing callback can not
+     * leak permits and stall later senders. Failures thrown by the send call itself, like a
+     * serialization error or a metadata or buffer timeout, are completed the same way and are
+     * thrown as a KafkaProducerException
+     */
+    @Override
+    public CompletableFuture<SendResult<K, V>> sendAsync(String topicName, K key, V message,
+                                                         BiConsumer<SendResult<K, V>, Throwable> callback) {
+        log.debug(SENDING_MESSAGE_TO_TOPIC, key, topicName);
+        acquireInFlightPermit(topicName, key);
+        long start = System.nanoTime();
+        Span span = startSendSpan(topicName);
+        try {
+            return kafkaTemplate
+                    .send(tracedRecord(topicName, key, message, span))
+                    .completable()
+                    .whenComplete((result, throwable) -> {
+                        completeAsyncSend(topicName, start, span, throwable);
+                        callback.accept(result, throwable);
+                    });
+        } catch (RuntimeException e) {
+            completeAsyncSend(topicName, start, span, e);
+            log.error(ERROR_PRODUCER_MESSAGE, key, topicName, e.getMessage(), e);
+            throw new KafkaProducerException(String.format(ERROR_PRODUCER_MESSAGE, key, topicName, e.getMessage()), e);
+        }
+    }
+
+    private void completeAsyncSend(String topicName, long start, Span span, Throwable throwable) {
+        inFlightSends.release();
+        kafkaProducerMetrics.recordSend(topicName, start, throwable);
+        endSendSpan(span, throwable);
+    }
+
+    private Span startSendSpan(String topicName) {
+        Span.Builder spanBuilder = tracer.spanBuilder()
+                .name(topicName + " send")
+                .kind(Span.Kind.PRODUCER)
+                .remoteServiceName("kafka")
+                .tag("messaging.system", "kafka")
+                .tag("messaging.destination", topicName);
+        Span currentSpan = tracer.currentSpan();
+        if (currentSpan != null) {
+            spanBuilder.setParent(currentSpan.context());
+        }
+        return spanBuilder.start();
+    }
+
+    private ProducerRecord<K, V> tracedRecord(String topicName, K key, V message, Span span) {
+        ProducerRecord<K, V> record = new ProducerRecord<>(topicName, key, message);
+        propagator.inject(span.context(), record.headers(), KafkaProducerImpl::setHeader);
+        return record;
+    }
+
+    private static void setHeader(Headers headers, String name, String value) {
+        headers.remove(name);
+        headers.add(name, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void endSendSpan(Span span, Throwable throwable) {
+        if (throwable != null) {
+            span.error(throwable);
+        }
+        span.end();
+    }
+
+    private void acquireInFlightPermit(String topicName, K key) {
+        try {
+            if (!inFlightSends.tryAcquire(maxInFlightWaitMs, TimeUnit.MILLISECONDS)) {
+                log.error(KAFKA_PRODUCER_TOO_MANY_IN_FLIGHT, key, topicName);
+                throw new KafkaProducerException(String.format(KAFKA_PRODUCER_TOO_MANY_IN_FLIGHT, key, topicName));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaProducerException(String.format(KAFKA_PRODUCER_INTERRUPTED, key, topicName), e);
         }
     }
 
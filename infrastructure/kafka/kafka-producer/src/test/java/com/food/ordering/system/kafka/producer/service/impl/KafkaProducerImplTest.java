@@ -0,0 +1,100 @@
+package com.food.ordering.system.kafka.producer.service.impl;
+
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.producer.KafkaProducerMetrics;
+import com.food.ordering.system.kafka.producer.exception.KafkaProducerException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.micrometer.tracing.propagation.Propagator;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KafkaProducerImplTest {
+
+    private static final String TOPIC_NAME = "payment-request";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private KafkaTemplate<String, PaymentRequestAvroModel> kafkaTemplate;
+    private KafkaProducerConfigData configData;
+    private KafkaProducerImpl<String, PaymentRequestAvroModel> kafkaProducer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void init() {
+        kafkaTemplate = mock(KafkaTemplate.class);
+        configData = new KafkaProducerConfigData();
+        configData.setMaxInFlightSends(1);
+        configData.setMaxInFlightWaitMs(10L);
+        kafkaProducer = new KafkaProducerImpl<>(kafkaTemplate, configData, new KafkaProducerMetrics(meterRegistry),
+                Tracer.NOOP, mock(Propagator.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sendAsync_whenSendThrows_thenPermitReleasedAndErrorTimed() {
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenThrow(new SerializationException("Unknown record"));
+
+        for (int i = 0; i < 3; i++) {
+            KafkaProducerException exception = assertThrows(KafkaProducerException.class,
+                    () -> kafkaProducer.sendAsync(TOPIC_NAME, "key", null, (result, throwable) -> {
+                    }));
+            // A leaked permit would fail the next sends with no cause, waiting for a free slot
+            assertInstanceOf(SerializationException.class, exception.getCause());
+        }
+        assertEquals(3, meterRegistry.get("kafka.producer.send").tag("outcome", "error").timer().count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sendAsync_whenSpanInScope_thenTraceContextWrittenToHeaders() {
+        OpenTelemetrySdk openTelemetry = OpenTelemetrySdk.builder()
+                .setTracerProvider(SdkTracerProvider.builder().build())
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .build();
+        io.opentelemetry.api.trace.Tracer otelTracer = openTelemetry.getTracer("test");
+        Tracer tracer = new OtelTracer(otelTracer, new OtelCurrentTraceContext(), event -> {
+        });
+        kafkaProducer = new KafkaProducerImpl<>(kafkaTemplate, configData, new KafkaProducerMetrics(meterRegistry),
+                tracer, new OtelPropagator(openTelemetry.getPropagators(), otelTracer));
+        ArgumentCaptor<ProducerRecord<String, PaymentRequestAvroModel>> sent = ArgumentCaptor.forClass(ProducerRecord.class);
+        when(kafkaTemplate.send(sent.capture())).thenReturn(new SettableListenableFuture<>());
+        Span parentSpan = tracer.nextSpan().name("create-order").start();
+
+        try (Tracer.SpanInScope ignored = tracer.withSpan(parentSpan)) {
+            kafkaProducer.sendAsync(TOPIC_NAME, "key", null, (result, throwable) -> {
+            });
+        } finally {
+            parentSpan.end();
+        }
+
+        Header traceparent = sent.getValue().headers().lastHeader("traceparent");
+        String[] traceContext = new String(traceparent.value(), StandardCharsets.UTF_8).split("-");
+        assertEquals(parentSpan.context().traceId(), traceContext[1]);
+        assertNotEquals(parentSpan.context().spanId(), traceContext[2]);
+    }
+}
@@ -1,46 +1,81 @@
 package com.food.ordering.system.domain.valueobject;
 
-import lombok.EqualsAndHashCode;
-import lombok.Getter;
-import lombok.RequiredArgsConstructor;
-
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
-@Getter
-@RequiredArgsConstructor
-@EqualsAndHashCode
+/**
+ * Amount kept as a long of minor units at scale 2, so the arithmetic of the validation loops
+ * does not allocate BigDecimals. BigDecimal is only used at the boundaries, the amount is rounded
+ * HALF_EVEN to scale 2 when the Money is created and converted back by getAmount.
+ * Arithmetic overflow throws ArithmeticException instead of wrapping
+ */
 public class Money {
     private static final int SCALE = 2;
-    public static final Money ZERO = new Money(BigDecimal.ZERO);
-    private final BigDecimal amount;
+    public static final Money ZERO = new Money(0L);
 
+    private final long minorUnits;
     /**
-     * CompareTo instead of equals, because 0.00 needs more specificity
-     *
-     * @return
+     * A Money created from a null amount, like the price of a product not yet confirmed
      */
+    private final boolean undefined;
+
+    public Money(BigDecimal amount) {
+        this.undefined = amount == null;
+        this.minorUnits = undefined ? 0L : toMinorUnits(amount);
+    }
+
+    private Money(long minorUnits) {
+        this.undefined = false;
+        this.minorUnits = minorUnits;
+    }
+
+    public BigDecimal getAmount() {
+        return undefined ? null : BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
     public boolean isGreaterThanZero() {
-        return this.amount != null && this.amount.compareTo(BigDecimal.ZERO) > 0;
+        return !undefined && minorUnits > 0;
     }
 
     public Boolean isGreaterThan(Money money) {
-        return this.amount != null && this.amount.compareTo(money.getAmount()) > 0;
+        return !undefined && minorUnits > money.definedMinorUnits();
     }
 
     public Money add(Money money) {
-        return new Money(setScale(this.amount.add(money.getAmount())));
+        return new Money(Math.addExact(definedMinorUnits(), money.definedMinorUnits()));
     }
 
     public Money substract(Money money) {
-        return new Money(setScale(this.amount.subtract(money.getAmount())));
+        return new Money(Math.subtractExact(definedMinorUnits(), money.definedMinorUnits()));
     }
 
     public Money multiply(int times) {
-        return new Money(setScale(this.amount.multiply(BigDecimal.valueOf(times))));
+        return new Money(Math.multiplyExact(definedMinorUnits(), times));
+    }
+
+    /**
+     * Same failure as the BigDecimal arithmetic on a null amount
+     */
+    private long definedMinorUnits() {
+        if (undefined) {
+            throw new NullPointerException("Money amount is null");
+        }
+        return minorUnits;
+    }
+
+    private static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Money money)) return false;
+        return minorUnits == money.minorUnits && undefined == money.undefined;
     }
 
-    private BigDecimal setScale(BigDecimal amount) {
-        return amount.setScale(SCALE, RoundingMode.HALF_EVEN);
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits) * 31 + Boolean.hashCode(undefined);
     }
 }
\ No newline at end of file
@@ -0,0 +1,5 @@
+package com.food.ordering.system.domain.valueobject;
+
+public enum RestaurantOrderStatus {
+    PAID
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.food.ordering.system.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MoneyTest {
+
+    @Test
+    void arithmetic_whenAmountsInCents_thenSameAsBigDecimalArithmetic() {
+        BigDecimal price = new BigDecimal("19.99");
+        BigDecimal delivery = new BigDecimal("2.5");
+
+        Money total = new Money(price).multiply(3).add(new Money(delivery)).substract(new Money(BigDecimal.ONE));
+
+        BigDecimal expected = price.multiply(BigDecimal.valueOf(3)).add(delivery).subtract(BigDecimal.ONE)
+                .setScale(2, RoundingMode.HALF_EVEN);
+        assertEquals(expected, total.getAmount());
+    }
+
+    @Test
+    void constructor_whenSubCentAmount_thenRoundedHalfEvenBeforeArithmetic() {
+        assertEquals(new BigDecimal("10.00"), new Money(new BigDecimal("10.005")).getAmount());
+        assertEquals(new BigDecimal("10.02"), new Money(new BigDecimal("10.015")).getAmount());
+
+        // BigDecimal arithmetic rounded the product, 10.005 x 3 = 30.015 gave 30.02
+        assertEquals(new BigDecimal("30.00"), new Money(new BigDecimal("10.005")).multiply(3).getAmount());
+    }
+
+    @Test
+    void equals_whenSameAmountAtAnotherScale_thenEqual() {
+        Money money = new Money(new BigDecimal("50.0"));
+        Money sameMoney = new Money(new BigDecimal("50.00"));
+
+        assertEquals(money, sameMoney);
+        assertEquals(money.hashCode(), sameMoney.hashCode());
+        assertEquals(new BigDecimal("50.00"), money.getAmount());
+    }
+
+    @Test
+    void arithmetic_whenResultOverflows_thenThrowArithmeticException() {
+        Money max = new Money(BigDecimal.valueOf(Long.MAX_VALUE, 2));
+
+        assertThrows(ArithmeticException.class, () -> max.add(new Money(new BigDecimal("0.01"))));
+        assertThrows(ArithmeticException.class, () -> max.multiply(2));
+        assertThrows(ArithmeticException.class, () -> Money.ZERO.substract(max).substract(new Money(new BigDecimal("0.02"))));
+        assertThrows(ArithmeticException.class, () -> new Money(BigDecimal.valueOf(Long.MAX_VALUE, 2).add(BigDecimal.ONE)));
+    }
+
+    @Test
+    void nullAmount_whenCompared_thenNotGreaterAndArithmeticThrows() {
+        Money undefined = new Money(null);
+
+        assertNull(undefined.getAmount());
+        assertFalse(undefined.isGreaterThanZero());
+        assertFalse(undefined.isGreaterThan(Money.ZERO));
+        assertTrue(new Money(BigDecimal.ONE).isGreaterThan(Money.ZERO));
+        assertEquals(new Money(null), undefined);
+        assertNotEquals(Money.ZERO, undefined);
+        assertThrows(NullPointerException.class, () -> undefined.add(Money.ZERO));
+        assertThrows(NullPointerException.class, () -> Money.ZERO.add(undefined));
+        assertThrows(NullPointerException.class, () -> Money.ZERO.isGreaterThan(undefined));
+    }
+}
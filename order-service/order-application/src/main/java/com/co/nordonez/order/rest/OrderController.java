@@ -1,20 +1,40 @@
 package com.co.nordonez.order.rest;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
+import com.food.ordering.system.order.service.domain.dto.export.ExportOrdersQuery;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExport;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportFormat;
+import com.food.ordering.system.order.service.domain.dto.list.ListOrdersQuery;
+import com.food.ordering.system.order.service.domain.dto.list.OrderListing;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -24,6 +44,7 @@ import java.util.UUID;
 public class OrderController {
 
     private final OrderApplicationService orderApplicationService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping()
     public ResponseEntity<CreateOrderResponse> createOrder(
@@ -39,6 +60,18 @@ public class OrderController {
         return ResponseEntity.ok(createOrderResponse);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<CreateOrderResult>> createOrders(
+            @RequestBody List<CreateOrderCommand> createOrderCommands) {
+        log.info("Create batch of {} orders", createOrderCommands.size());
+        List<CreateOrderResult> createOrderResults = orderApplicationService
+                .createOrders(createOrderCommands);
+        log.info("Created {} orders of the batch", createOrderResults.stream()
+                .filter(CreateOrderResult::isCreated)
+                .count());
+        return ResponseEntity.ok(createOrderResults);
+    }
+
     @GetMapping("/{trackingId}")
     public ResponseEntity<TrackOrderResponse> getOrderByTrackingId(@PathVariable UUID trackingId) {
         TrackOrderResponse trackOrderResponse = orderApplicationService
@@ -47,4 +80,70 @@ public class OrderController {
         return ResponseEntity.ok(trackOrderResponse);
     }
 
+    /**
+     * The query is checked before the response starts, then every order is written to the
+     * response as it is read, followed by the cursor of the next page
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> listOrders(@RequestParam(required = false) UUID customerId,
+                                                            @RequestParam(required = false) UUID restaurantId,
+                                                            @RequestParam OrderStatus orderStatus,
+                                                            @RequestParam(required = false) String cursor,
+                                                            @RequestParam(required = false) Integer pageSize) {
+        OrderListing orderListing = orderApplicationService.listOrders(ListOrdersQuery.builder()
+                .customerId(customerId)
+                .restaurantId(restaurantId)
+                .orderStatus(orderStatus)
+                .cursor(cursor)
+                .pageSize(pageSize)
+                .build());
+        log.info("Listing {} orders of customer: {} restaurant: {}", orderStatus, customerId, restaurantId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(outputStream -> writeOrders(orderListing, outputStream));
+    }
+
+    /**
+     * Orders of a creation date range written as they are read, as NDJSON or as CSV
+     */
+    @GetMapping(value = "/export", produces = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime createdFrom,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime createdTo,
+            @RequestParam(required = false) UUID restaurantId,
+            @RequestParam(defaultValue = "NDJSON") OrderExportFormat format) {
+        OrderExport orderExport = orderApplicationService.exportOrders(ExportOrdersQuery.builder()
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .restaurantId(restaurantId)
+                .format(format)
+                .build());
+        log.info("Exporting orders created from {} to {} of restaurant: {} as {}",
+                createdFrom, createdTo, restaurantId, format);
+        return ResponseEntity.ok()
+                .contentType(format == OrderExportFormat.CSV ?
+                        new MediaType("text", "csv") : new MediaType("application", "x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("orders." + format.name().toLowerCase())
+                        .build()
+                        .toString())
+                .body(orderExport::writeTo);
+    }
+
+    private void writeOrders(OrderListing orderListing, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(outputStream);
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("orders");
+        String nextCursor = orderListing.forEachOrder(orderSummary -> {
+            try {
+                generator.writeObject(orderSummary);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.writeEndArray();
+        generator.writeStringField("nextCursor", nextCursor);
+        generator.writeEndObject();
+        generator.flush();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.food.ordering.system.order.benchmark;
+
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.order.messaging.avro.InMemoryAvroSchemaRegistryClient;
+import com.food.ordering.system.order.messaging.avro.OrderAvroCodec;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Payment response records through the {@link OrderAvroCodec} and through the default serializer
+ * path as a baseline: the schema id comes from the registry client cache but the datum writer or
+ * reader, the output stream and the encoder or decoder are created for every record
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AvroCodecBenchmark {
+
+    @Param({"0", "5"})
+    private int failureMessageCount;
+
+    private final Schema schema = PaymentResponseAvroModel.getClassSchema();
+    private final SpecificData model = SpecificData.getForClass(PaymentResponseAvroModel.class);
+    private OrderAvroCodec orderAvroCodec;
+    private int schemaId;
+    private PaymentResponseAvroModel paymentResponse;
+    private byte[] serializedPaymentResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var schemaRegistryClient = new InMemoryAvroSchemaRegistryClient();
+        orderAvroCodec = new OrderAvroCodec(schemaRegistryClient, List.of(PaymentResponseAvroModel.class),
+                1024, 65536);
+        schemaId = schemaRegistryClient.register(schema.getFullName(), schema);
+        List<String> failureMessages = new ArrayList<>(failureMessageCount);
+        for (int i = 0; i < failureMessageCount; i++) {
+            failureMessages.add("Payment failure message " + i);
+        }
+        paymentResponse = PaymentResponseAvroModel.newBuilder()
+                .setId(UUID.randomUUID())
+                .setSagaId(UUID.randomUUID())
+                .setPaymentId(UUID.randomUUID())
+                .setCustomerId(UUID.randomUUID())
+                .setOrderId(UUID.randomUUID())
+                .setPrice(new BigDecimal("200.00"))
+                .setCreatedAt(Instant.now())
+                .setPaymentStatus(failureMessageCount == 0 ? PaymentStatus.COMPLETED : PaymentStatus.FAILED)
+                .setFailureMessages(failureMessages)
+                .build();
+        serializedPaymentResponse = orderAvroCodec.serialize(paymentResponse);
+    }
+
+    @Benchmark
+    public byte[] codecSerialize() {
+        return orderAvroCodec.serialize(paymentResponse);
+    }
+
+    @Benchmark
+    public PaymentResponseAvroModel codecDeserialize() {
+        return orderAvroCodec.deserialize(serializedPaymentResponse);
+    }
+
+    @Benchmark
+    public byte[] defaultSerialize() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(0);
+        out.write(ByteBuffer.allocate(4).putInt(schemaId).array());
+        BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+        new SpecificDatumWriter<PaymentResponseAvroModel>(schema, model).write(paymentResponse, encoder);
+        encoder.flush();
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public PaymentResponseAvroModel defaultDeserialize() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(serializedPaymentResponse);
+        buffer.get();
+        buffer.getInt();
+        BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(serializedPaymentResponse,
+                buffer.position(), buffer.remaining(), null);
+        return new SpecificDatumReader<PaymentResponseAvroModel>(schema, schema, model).read(null, decoder);
+    }
+}
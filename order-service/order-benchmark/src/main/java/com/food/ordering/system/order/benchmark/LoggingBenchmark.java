@@ -0,0 +1,139 @@
+package com.food.ordering.system.order.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.kafka.producer.KafkaMessageHelper;
+import com.food.ordering.system.order.service.domain.utils.MessageLogger;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.support.SendResult;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.food.ordering.system.kafka.producer.KafkaMessageHelper.KAFKA_SUCCESS_SENDING_MESSAGE;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_PAID;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.SENDING_MESSAGE_TO_TOPIC;
+
+/**
+ * The previous log calls, String.format on every call with the whole Avro message when sending and a
+ * line per acknowledged send, against the {@link MessageLogger} calls. With WARN none of the lines is
+ * enabled, with INFO an appender renders every logged message like an encoder would
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private static final String PREVIOUS_SENDING_MESSAGE_TO_TOPIC = "Sending message: %s. to topic: %s";
+    private static final String TOPIC = "payment-response";
+
+    @Param({"WARN", "INFO"})
+    private String level;
+
+    private final org.slf4j.Logger previousLogger = LoggerFactory.getLogger(LoggingBenchmark.class);
+    private final MessageLogger messageLogger = MessageLogger.getLogger(LoggingBenchmark.class);
+    private KafkaMessageHelper kafkaMessageHelper;
+    private UUID orderId;
+    private PaymentResponseAvroModel paymentResponse;
+    private SendResult<String, PaymentResponseAvroModel> sendResult;
+
+    @Setup
+    public void setUp() {
+        var logger = (Logger) LoggerFactory.getLogger(LoggingBenchmark.class);
+        var kafkaMessageHelperLogger = (Logger) LoggerFactory.getLogger(KafkaMessageHelper.class);
+        var appender = new RenderingAppender();
+        appender.start();
+        for (Logger benchmarkLogger : List.of(logger, kafkaMessageHelperLogger)) {
+            benchmarkLogger.setLevel(Level.toLevel(level));
+            benchmarkLogger.setAdditive(false);
+            benchmarkLogger.detachAndStopAllAppenders();
+            benchmarkLogger.addAppender(appender);
+        }
+        kafkaMessageHelper = new KafkaMessageHelper(new KafkaProducerConfigData());
+        orderId = UUID.randomUUID();
+        paymentResponse = PaymentResponseAvroModel.newBuilder()
+                .setId(UUID.randomUUID())
+                .setSagaId(UUID.randomUUID())
+                .setPaymentId(UUID.randomUUID())
+                .setCustomerId(UUID.randomUUID())
+                .setOrderId(orderId)
+                .setPrice(new BigDecimal("200.00"))
+                .setCreatedAt(Instant.now())
+                .setPaymentStatus(PaymentStatus.COMPLETED)
+                .setFailureMessages(List.of())
+                .build();
+        sendResult = new SendResult<>(new ProducerRecord<>(TOPIC, orderId.toString(), paymentResponse),
+                new RecordMetadata(new TopicPartition(TOPIC, 3), 1024L, 0, System.currentTimeMillis(), 36, 512));
+    }
+
+    @Benchmark
+    public void orderLogStringFormat() {
+        previousLogger.info(String.format(ORDER_PAID, orderId));
+    }
+
+    @Benchmark
+    public void orderLogMessageLogger() {
+        messageLogger.info(ORDER_PAID, orderId);
+    }
+
+    @Benchmark
+    public void sendLogWholeMessage() {
+        previousLogger.info(String.format(PREVIOUS_SENDING_MESSAGE_TO_TOPIC, paymentResponse, TOPIC));
+    }
+
+    @Benchmark
+    public void sendLogKey() {
+        messageLogger.debug(SENDING_MESSAGE_TO_TOPIC, orderId, TOPIC);
+    }
+
+    @Benchmark
+    public void ackLogEveryMessage() {
+        RecordMetadata metadata = sendResult.getRecordMetadata();
+        previousLogger.info(String.format(KAFKA_SUCCESS_SENDING_MESSAGE, orderId, metadata.topic(),
+                metadata.partition(), metadata.offset(), metadata.timestamp()));
+    }
+
+    @Benchmark
+    public void ackLogSampled() {
+        kafkaMessageHelper.<PaymentResponseAvroModel>getKafkaAsyncCallback(TOPIC, orderId.toString(),
+                "PaymentResponseAvroModel").accept(sendResult, null);
+    }
+
+    /**
+     * Renders the message of every event and keeps its length, so the rendering is not eliminated
+     */
+    private static final class RenderingAppender extends AppenderBase<ILoggingEvent> {
+
+        private volatile int renderedLength;
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            renderedLength = event.getFormattedMessage().length();
+        }
+    }
+}
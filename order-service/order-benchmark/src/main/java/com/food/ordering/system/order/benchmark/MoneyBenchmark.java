@@ -0,0 +1,118 @@
+package com.food.ordering.system.order.benchmark;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Money operations in the shape the order validation uses them: summing the item
+ * subtotals and multiplying every item price by its quantity. The bigDecimal benchmarks
+ * run the same loops on the previous BigDecimal backed implementation as a baseline
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    @Param({"5", "20"})
+    private int itemCount;
+
+    private Money[] prices;
+    private int[] quantities;
+    private Money total;
+    private BigDecimalMoney[] bigDecimalPrices;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var random = new SplittableRandom(42);
+        prices = new Money[itemCount];
+        quantities = new int[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            prices[i] = new Money(BigDecimal.valueOf(100 + random.nextInt(5000), 2));
+            quantities[i] = 1 + random.nextInt(4);
+        }
+        total = add();
+        bigDecimalPrices = new BigDecimalMoney[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            bigDecimalPrices[i] = new BigDecimalMoney(prices[i].getAmount());
+        }
+    }
+
+    @Benchmark
+    public Money add() {
+        var sum = Money.ZERO;
+        for (Money price : prices) {
+            sum = sum.add(price);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Money multiplyAndAdd() {
+        var sum = Money.ZERO;
+        for (int i = 0; i < prices.length; i++) {
+            sum = sum.add(prices[i].multiply(quantities[i]));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Money substract() {
+        var remaining = total;
+        for (Money price : prices) {
+            remaining = remaining.substract(price);
+        }
+        return remaining;
+    }
+
+    @Benchmark
+    public BigDecimalMoney bigDecimalAdd() {
+        var sum = BigDecimalMoney.ZERO;
+        for (BigDecimalMoney price : bigDecimalPrices) {
+            sum = sum.add(price);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public BigDecimalMoney bigDecimalMultiplyAndAdd() {
+        var sum = BigDecimalMoney.ZERO;
+        for (int i = 0; i < bigDecimalPrices.length; i++) {
+            sum = sum.add(bigDecimalPrices[i].multiply(quantities[i]));
+        }
+        return sum;
+    }
+
+    /**
+     * Money as it was before the fixed point implementation
+     */
+    public record BigDecimalMoney(BigDecimal amount) {
+        static final BigDecimalMoney ZERO = new BigDecimalMoney(BigDecimal.ZERO);
+
+        BigDecimalMoney add(BigDecimalMoney money) {
+            return new BigDecimalMoney(amount.add(money.amount).setScale(2, RoundingMode.HALF_EVEN));
+        }
+
+        BigDecimalMoney multiply(int times) {
+            return new BigDecimalMoney(amount.multiply(BigDecimal.valueOf(times)).setScale(2, RoundingMode.HALF_EVEN));
+        }
+    }
+}
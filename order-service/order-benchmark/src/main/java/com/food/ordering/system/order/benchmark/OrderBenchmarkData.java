@@ -0,0 +1,70 @@
+package com.food.ordering.system.order.benchmark;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
+import com.food.ordering.system.order.service.domain.dto.create.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Menus and valid create order commands shared by the benchmarks, built from a fixed seed
+ */
+final class OrderBenchmarkData {
+
+    private OrderBenchmarkData() {
+    }
+
+    static List<Product> menu(int menuSize, SplittableRandom random) {
+        List<Product> menu = new ArrayList<>(menuSize);
+        for (int i = 0; i < menuSize; i++) {
+            menu.add(new Product(new ProductId(UUID.randomUUID()), "product-" + i,
+                    new Money(BigDecimal.valueOf(100 + random.nextInt(5000), 2))));
+        }
+        return menu;
+    }
+
+    static Restaurant restaurant(List<Product> menu) {
+        return new Restaurant.Builder(menu)
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .active(true)
+                .build();
+    }
+
+    static CreateOrderCommand createOrderCommand(Restaurant restaurant, int itemCount, SplittableRandom random) {
+        var menu = restaurant.getProducts();
+        List<OrderItem> orderItems = new ArrayList<>(itemCount);
+        var total = BigDecimal.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            var product = menu.get(random.nextInt(menu.size()));
+            var quantity = 1 + random.nextInt(4);
+            var subtotal = product.getPrice().multiply(quantity).getAmount();
+            orderItems.add(OrderItem.builder()
+                    .productId(product.getId().getValue())
+                    .quantity(quantity)
+                    .price(product.getPrice().getAmount())
+                    .subtotal(subtotal)
+                    .build());
+            total = total.add(subtotal);
+        }
+        return CreateOrderCommand.builder()
+                .customerId(UUID.randomUUID())
+                .restaurantId(restaurant.getId().getValue())
+                .price(total)
+                .orderItems(orderItems)
+                .address(OrderAddress.builder()
+                        .street("street")
+                        .postalCode("1000AA")
+                        .city("city")
+                        .build())
+                .build();
+    }
+}
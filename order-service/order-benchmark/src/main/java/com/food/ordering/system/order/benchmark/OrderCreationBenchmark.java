@@ -0,0 +1,84 @@
+package com.food.ordering.system.order.benchmark;
+
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Create order hot path without the repositories: command mapping, order validation and the
+ * whole domain service step. validateAndInitiateOrder changes the order, so it maps a new one
+ * on every call; subtract createOrderCommandToOrder to get the domain service alone
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderCreationBenchmark {
+
+    @Param({"20", "200"})
+    private int menuSize;
+
+    @Param({"1", "5", "20"})
+    private int itemCount;
+
+    private final OrderDataMapper orderDataMapper = new OrderDataMapper();
+    private final OrderDomainService orderDomainService = new OrderDomainServiceImpl();
+
+    private Restaurant restaurant;
+    private CreateOrderCommand createOrderCommand;
+    private Order pricedOrder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var random = new SplittableRandom(42);
+        restaurant = OrderBenchmarkData.restaurant(OrderBenchmarkData.menu(menuSize, random));
+        createOrderCommand = OrderBenchmarkData.createOrderCommand(restaurant, itemCount, random);
+        pricedOrder = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+        for (OrderItem orderItem : pricedOrder.getItems()) {
+            var product = restaurant.findProduct(orderItem.getProduct().getId()).orElseThrow();
+            orderItem.getProduct().updateWithConfirmedNameAndPrice(product.getName(), product.getPrice());
+        }
+    }
+
+    @Benchmark
+    public Order createOrderCommandToOrder() {
+        return orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+    }
+
+    /**
+     * Validation only reads the order, the same priced order is validated on every call
+     */
+    @Benchmark
+    public Order validateOrder() {
+        pricedOrder.validateOrder();
+        return pricedOrder;
+    }
+
+    @Benchmark
+    public OrderCreatedEvent validateAndInitiateOrder() {
+        return orderDomainService.validateAndInitiateOrder(
+                orderDataMapper.createOrderCommandToOrder(createOrderCommand), restaurant);
+    }
+}
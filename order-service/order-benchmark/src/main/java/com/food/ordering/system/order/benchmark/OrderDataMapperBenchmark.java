@@ -0,0 +1,64 @@
+package com.food.ordering.system.order.benchmark;
+
+import com.food.ordering.system.order.data.order.entity.OrderEntity;
+import com.food.ordering.system.order.data.order.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Both MapStruct mappings of the persistence adapter, for an initialized order
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderDataMapperBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int itemCount;
+
+    private final OrderDataMapper orderDataMapper = OrderDataMapper.ORDER_DATA_MAPPER;
+
+    private Order order;
+    private OrderEntity orderEntity;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var random = new SplittableRandom(42);
+        var restaurant = OrderBenchmarkData.restaurant(OrderBenchmarkData.menu(200, random));
+        var createOrderCommand = OrderBenchmarkData.createOrderCommand(restaurant, itemCount, random);
+        order = new OrderDomainServiceImpl().validateAndInitiateOrder(
+                new com.food.ordering.system.order.service.domain.mapper.OrderDataMapper()
+                        .createOrderCommandToOrder(createOrderCommand), restaurant).getOrder();
+        orderEntity = orderDataMapper.map(order);
+        // Set by JPA when the entity is loaded, the mapping back reads the order id from it
+        orderEntity.getItems().forEach(item -> item.setOrder(orderEntity));
+    }
+
+    @Benchmark
+    public OrderEntity orderToEntity() {
+        return orderDataMapper.map(order);
+    }
+
+    @Benchmark
+    public Order entityToOrder() {
+        return orderDataMapper.map(orderEntity);
+    }
+}
@@ -0,0 +1,110 @@
+package com.food.ordering.system.order.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.kafka.order.avro.model.Product;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus;
+import com.food.ordering.system.order.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessageType;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.RoundingMode;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Restaurant approval outbox messages of large orders mapped to their Avro request by the
+ * messaging adapter. The builders benchmark is the baseline with a stream collecting one
+ * builder per product and the price always rescaled, the outbox message benchmark adds reading
+ * the JSON payload as the publisher does
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OutboxMessageMappingBenchmark {
+
+    @Param({"20", "200", "1000"})
+    private int itemCount;
+
+    private final OrderMessagingDataMapper orderMessagingDataMapper = new OrderMessagingDataMapper();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private OrderApprovalEventPayload payload;
+    private OrderOutboxMessage orderOutboxMessage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        var random = new SplittableRandom(42);
+        var restaurant = OrderBenchmarkData.restaurant(OrderBenchmarkData.menu(2 * itemCount, random));
+        var orderDataMapper = new OrderDataMapper();
+        var order = new OrderDomainServiceImpl().validateAndInitiateOrder(orderDataMapper.createOrderCommandToOrder(
+                OrderBenchmarkData.createOrderCommand(restaurant, itemCount, random)), restaurant).getOrder();
+        order.pay();
+        payload = orderDataMapper.orderPaidEventToOrderApprovalEventPayload(
+                new OrderPaidEvent(order, ZonedDateTime.now(ZoneOffset.UTC)));
+        orderOutboxMessage = OrderOutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .sagaId(UUID.randomUUID())
+                .orderId(order.getId().getValue())
+                .type(OrderOutboxMessageType.RESTAURANT_APPROVAL_REQUEST)
+                .payload(objectMapper.writeValueAsString(payload))
+                .createdAt(ZonedDateTime.now(ZoneOffset.UTC))
+                .outboxStatus(OutboxStatus.STARTED)
+                .build();
+    }
+
+    @Benchmark
+    public RestaurantApprovalRequestAvroModel payloadToAvro() {
+        return orderMessagingDataMapper.approvalEventPayloadToRestaurantApprovalRequestAvroModel(
+                orderOutboxMessage, payload);
+    }
+
+    @Benchmark
+    public RestaurantApprovalRequestAvroModel payloadToAvroWithBuilders() {
+        return RestaurantApprovalRequestAvroModel.newBuilder()
+                .setId(orderOutboxMessage.getId())
+                .setSagaId(orderOutboxMessage.getSagaId())
+                .setRestaurantId(UUID.fromString(payload.getRestaurantId()))
+                .setOrderId(UUID.fromString(payload.getOrderId()))
+                .setRestaurantOrderStatus(RestaurantOrderStatus.valueOf(payload.getRestaurantOrderStatus()))
+                .setProducts(payload.getProducts().stream()
+                        .map(product -> Product.newBuilder()
+                                .setId(product.getId())
+                                .setQuantity(product.getQuantity())
+                                .build())
+                        .toList())
+                .setPrice(payload.getPrice().setScale(2, RoundingMode.HALF_EVEN))
+                .setCreatedAt(payload.getCreatedAt().toInstant())
+                .build();
+    }
+
+    @Benchmark
+    public RestaurantApprovalRequestAvroModel outboxMessageToAvro() throws JsonProcessingException {
+        return orderMessagingDataMapper.approvalEventPayloadToRestaurantApprovalRequestAvroModel(orderOutboxMessage,
+                objectMapper.readValue(orderOutboxMessage.getPayload(), OrderApprovalEventPayload.class));
+    }
+}
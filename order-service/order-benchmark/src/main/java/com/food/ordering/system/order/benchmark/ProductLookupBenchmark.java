@@ -0,0 +1,101 @@
+package com.food.ordering.system.order.benchmark;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the previous nested loop product lookup (order items x menu) with the
+ * {@link Restaurant} product index used by the order domain service
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductLookupBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int menuSize;
+
+    @Param({"5", "50"})
+    private int itemCount;
+
+    private List<Product> menu;
+    private Restaurant restaurant;
+    private List<ProductId> orderedProducts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        menu = new ArrayList<>(menuSize);
+        for (int i = 0; i < menuSize; i++) {
+            menu.add(new Product(new ProductId(UUID.randomUUID()), "product-" + i,
+                    new Money(new BigDecimal("10.00"))));
+        }
+        restaurant = new Restaurant.Builder(menu)
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .active(true)
+                .build();
+        orderedProducts = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            // Copy the id so equals is exercised like ids coming from a command
+            orderedProducts.add(new ProductId(menu.get(random.nextInt(menuSize)).getId().getValue()));
+        }
+    }
+
+    @Benchmark
+    public void nestedLoop(Blackhole blackhole) {
+        for (ProductId productId : orderedProducts) {
+            for (Product product : restaurant.getProducts()) {
+                if (productId.equals(product.getId())) {
+                    blackhole.consume(product.getPrice());
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void productIndex(Blackhole blackhole) {
+        for (ProductId productId : orderedProducts) {
+            blackhole.consume(restaurant.findProduct(productId).orElseThrow().getPrice());
+        }
+    }
+
+    /**
+     * Includes building the index, the worst case where a snapshot serves a single order
+     */
+    @Benchmark
+    public void productIndexWithSnapshotBuild(Blackhole blackhole) {
+        Restaurant snapshot = new Restaurant.Builder(menu)
+                .restaurantId(restaurant.getId())
+                .active(true)
+                .build();
+        for (ProductId productId : orderedProducts) {
+            blackhole.consume(snapshot.findProduct(productId).orElseThrow().getPrice());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.food.ordering.system.order.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Load test of concurrent create order requests on the 200 platform threads Tomcat has by
+ * default and on a virtual thread per request. A request takes one of the pooled connections
+ * for its queries, then waits for a Kafka ack completed by another thread. The connection is
+ * locked while querying with a monitor, as pgjdbc did before 42.6, or with a ReentrantLock as
+ * it does now: a virtual thread blocked in a monitor pins its carrier thread
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThreadModeBenchmark {
+
+    private static final int PLATFORM_THREADS = 200;
+    private static final int POOLED_CONNECTIONS = 20;
+    private static final long QUERY_MILLIS = 1;
+    private static final long ACK_MILLIS = 20;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    private String threadMode;
+
+    @Param({"MONITOR", "REENTRANT_LOCK"})
+    private String connectionLock;
+
+    @Param({"1000", "4000"})
+    private int concurrentRequests;
+
+    private ExecutorService requestExecutor;
+    private ScheduledExecutorService ackExecutor;
+    private Semaphore connectionPool;
+    private Object[] connectionMonitors;
+    private ReentrantLock[] connectionLocks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        requestExecutor = "VIRTUAL".equals(threadMode)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_THREADS);
+        ackExecutor = Executors.newSingleThreadScheduledExecutor();
+        connectionPool = new Semaphore(POOLED_CONNECTIONS, true);
+        connectionMonitors = new Object[POOLED_CONNECTIONS];
+        connectionLocks = new ReentrantLock[POOLED_CONNECTIONS];
+        for (int i = 0; i < POOLED_CONNECTIONS; i++) {
+            connectionMonitors[i] = new Object();
+            connectionLocks[i] = new ReentrantLock();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        requestExecutor.shutdownNow();
+        ackExecutor.shutdownNow();
+    }
+
+    /**
+     * Time for all the requests of a burst to complete
+     */
+    @Benchmark
+    public int requestBurst() throws Exception {
+        List<Future<?>> requests = new ArrayList<>(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            int connection = i % POOLED_CONNECTIONS;
+            requests.add(requestExecutor.submit(() -> createOrder(connection)));
+        }
+        for (Future<?> request : requests) {
+            request.get();
+        }
+        return requests.size();
+    }
+
+    private Void createOrder(int connection) throws InterruptedException {
+        connectionPool.acquire();
+        try {
+            if ("MONITOR".equals(connectionLock)) {
+                synchronized (connectionMonitors[connection]) {
+                    Thread.sleep(QUERY_MILLIS);
+                }
+            } else {
+                connectionLocks[connection].lock();
+                try {
+                    Thread.sleep(QUERY_MILLIS);
+                } finally {
+                    connectionLocks[connection].unlock();
+                }
+            }
+        } finally {
+            connectionPool.release();
+        }
+        var ack = new CompletableFuture<Void>();
+        ackExecutor.schedule(() -> ack.complete(null), ACK_MILLIS, TimeUnit.MILLISECONDS);
+        return ack.join();
+    }
+}
@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.domain;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@EnableScheduling
+@EnableJpaRepositories(basePackages = "com.food.ordering.system.order.data")
+@EntityScan(basePackages = "com.food.ordering.system.order.data")
+@SpringBootApplication(scanBasePackages = {"com.food.ordering.system", "com.co.nordonez.order"})
+public class OrderServiceApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(OrderServiceApplication.class, args);
+    }
+}
@@ -0,0 +1,51 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskSchedulerBuilder;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.Executors;
+
+/**
+ * <p> Virtual thread mode of the executors Spring Boot would otherwise create as platform thread
+ * pools: the Tomcat request threads, the application task executor behind @Async and the async
+ * MVC responses, and the scheduler of the @Scheduled jobs. Only created when
+ * virtual-thread-config.enabled is true <p/>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "virtual-thread-config", name = "enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    /**
+     * Every request gets a virtual thread, so concurrent requests are bounded by the Tomcat
+     * max connections and by the connection pool, not by max threads
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-", 0).factory()));
+    }
+
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new SimpleAsyncTaskExecutor(Thread.ofVirtual().name("task-", 0).factory());
+    }
+
+    /**
+     * Keeps the spring.task.scheduling pool settings, its threads are virtual
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(TaskSchedulerBuilder taskSchedulerBuilder) {
+        ThreadPoolTaskScheduler taskScheduler = taskSchedulerBuilder.build();
+        taskScheduler.setThreadFactory(Thread.ofVirtual().name("scheduling-", 0).factory());
+        return taskScheduler;
+    }
+}
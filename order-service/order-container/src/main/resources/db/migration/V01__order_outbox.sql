@@ -0,0 +1,30 @@
+-- The scripts of this directory are run in the order of their version prefix, later ones read the
+-- tables created by earlier ones.
+--
+-- Outbox of the requests to publish, written in the same transaction as the order change. A drainer
+-- leases the messages it publishes until claimed_until, saving their outcome clears it, or sets it to
+-- the next attempt of a message that could not be published. The index lets the drainers claim the
+-- oldest STARTED messages without scanning the published ones.
+-- Safe to run again, run it before deploying the service.
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS order_outbox
+(
+    id            uuid                     NOT NULL PRIMARY KEY,
+    saga_id       uuid,
+    order_id      uuid,
+    type          varchar(255),
+    payload       text,
+    trace_context varchar(512),
+    created_at    timestamp with time zone,
+    processed_at  timestamp with time zone,
+    claimed_until timestamp with time zone,
+    outbox_status varchar(255),
+    attempts      integer                  NOT NULL DEFAULT 0
+);
+
+ALTER TABLE order_outbox ADD COLUMN IF NOT EXISTS claimed_until timestamp with time zone;
+
+CREATE INDEX IF NOT EXISTS order_outbox_status_created_at_idx ON order_outbox (outbox_status, created_at);
+
+COMMIT;
@@ -0,0 +1,8 @@
+-- Unique index of the tracking ids, the order tracking endpoint looks every order up by its tracking id.
+-- Creating it fails when two orders share a tracking id, those have to be fixed first.
+-- Safe to run again, run it before deploying the service.
+BEGIN;
+
+CREATE UNIQUE INDEX IF NOT EXISTS orders_tracking_id_idx ON orders (tracking_id);
+
+COMMIT;
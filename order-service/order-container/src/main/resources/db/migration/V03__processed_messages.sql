@@ -0,0 +1,16 @@
+-- Ids of the payment and restaurant approval responses already applied, inserted in the transaction
+-- that applies the response so a redelivered response is skipped. The cleaner deletes the rows older
+-- than the retention, the index lets it find them without scanning the table.
+-- Safe to run again, run it before deploying the service.
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS processed_messages
+(
+    id           uuid                     NOT NULL PRIMARY KEY,
+    saga_id      uuid,
+    processed_at timestamp with time zone
+);
+
+CREATE INDEX IF NOT EXISTS processed_messages_processed_at_idx ON processed_messages (processed_at);
+
+COMMIT;
@@ -0,0 +1,8 @@
+-- Version of an order, checked and incremented by every update so concurrent writers of the same
+-- order do not overwrite each other. Existing orders start at version 0.
+-- Safe to run again, run it before deploying the service.
+BEGIN;
+
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+
+COMMIT;
@@ -0,0 +1,17 @@
+-- Last step reached by the saga of every order. The sweeper claims the sagas of a status not updated
+-- since the approval timeout, the index keeps that a range scan however many finished sagas are kept.
+-- Safe to run again, run it before deploying the service.
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS order_saga
+(
+    saga_id      uuid NOT NULL PRIMARY KEY,
+    order_id     uuid,
+    saga_status  varchar(255),
+    order_status varchar(255),
+    updated_at   timestamp with time zone
+);
+
+CREATE INDEX IF NOT EXISTS order_saga_status_updated_at_idx ON order_saga (saga_status, updated_at);
+
+COMMIT;
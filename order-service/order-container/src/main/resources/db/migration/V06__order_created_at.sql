@@ -0,0 +1,20 @@
+-- Creation date of the orders, read by the order listing pages and the export. Orders saved before
+-- the column existed get the creation date of their first outbox message, or now when it was already
+-- cleaned up, so it runs after V01__order_outbox.sql. The indexes serve the listing pages of a customer
+-- or restaurant, by status and creation date. Safe to run again, run it before deploying the service.
+BEGIN;
+
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS created_at timestamp with time zone;
+
+UPDATE orders o
+SET created_at = COALESCE((SELECT min(ob.created_at) FROM order_outbox ob WHERE ob.order_id = o.id), now())
+WHERE o.created_at IS NULL;
+
+ALTER TABLE orders ALTER COLUMN created_at SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS orders_customer_status_created_at_idx
+    ON orders (customer_id, order_status, created_at, id);
+CREATE INDEX IF NOT EXISTS orders_restaurant_status_created_at_idx
+    ON orders (restaurant_id, order_status, created_at, id);
+
+COMMIT;
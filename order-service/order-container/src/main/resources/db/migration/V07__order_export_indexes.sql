@@ -0,0 +1,9 @@
+-- Indexes of the order export. The export reads the orders of a creation date range in creation date
+-- and id order, and joins the items of every order by order id.
+-- Safe to run again, run it before deploying the service.
+BEGIN;
+
+CREATE INDEX IF NOT EXISTS orders_created_at_idx ON orders (created_at, id);
+CREATE INDEX IF NOT EXISTS order_items_order_id_idx ON order_items (order_id);
+
+COMMIT;
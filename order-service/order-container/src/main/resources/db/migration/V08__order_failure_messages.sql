@@ -0,0 +1,27 @@
+-- Moves the comma joined failure messages of the orders to a table of their own, one row per message.
+-- Empty messages are dropped, at most 20 messages of 1000 characters are kept per order, the same
+-- bounds the order service applies when it appends messages. Run once before deploying the service.
+BEGIN;
+
+CREATE TABLE order_failure_messages
+(
+    order_id      uuid          NOT NULL REFERENCES orders (id),
+    message_index integer       NOT NULL,
+    message       varchar(1000) NOT NULL,
+    PRIMARY KEY (order_id, message_index)
+);
+
+INSERT INTO order_failure_messages (order_id, message_index, message)
+SELECT order_id, message_index, left(message, 1000)
+FROM (SELECT o.id                                                             AS order_id,
+             m.message,
+             row_number() OVER (PARTITION BY o.id ORDER BY m.ordinality) - 1 AS message_index
+      FROM orders o
+               CROSS JOIN LATERAL unnest(string_to_array(o.failure_messages, ','))
+          WITH ORDINALITY AS m (message, ordinality)
+      WHERE m.message <> '') messages
+WHERE message_index < 20;
+
+ALTER TABLE orders DROP COLUMN failure_messages;
+
+COMMIT;
@@ -0,0 +1,3 @@
+-- Trace context of the order change that created an outbox message, so publishing the message
+-- continues its trace. Messages written before have none and are published in a trace of their own.
+ALTER TABLE order_outbox ADD COLUMN IF NOT EXISTS trace_context varchar(512);
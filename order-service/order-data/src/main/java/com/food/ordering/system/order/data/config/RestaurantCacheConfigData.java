@@ -0,0 +1,24 @@
+package com.food.ordering.system.order.data.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * <p> maximumProducts bounds the products held over all cached restaurants. An entry read after
+ * refreshAfterWriteSeconds is reloaded in the background, one not read again is dropped
+ * expireAfterWriteSeconds after its last load. Menu changes are only picked up by these reloads, so
+ * refreshAfterWriteSeconds bounds how stale a hot restaurant is and expireAfterWriteSeconds any other.
+ * Loads run on loaderThreads platform threads with up to loaderQueueCapacity waiting, or on a virtual
+ * thread each when virtual threads are enabled. Loads beyond the queue are rejected <p/>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "restaurant-cache-config")
+public class RestaurantCacheConfigData {
+    private Long maximumProducts = 100000L;
+    private Long refreshAfterWriteSeconds = 60L;
+    private Long expireAfterWriteSeconds = 600L;
+    private Integer loaderThreads = 8;
+    private Integer loaderQueueCapacity = 256;
+}
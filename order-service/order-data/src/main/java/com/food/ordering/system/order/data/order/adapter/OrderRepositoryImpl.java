@@ -1,27 +1,100 @@
 package com.food.ordering.system.order.data.order.adapter;
 
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
 import com.food.ordering.system.order.data.order.mapper.OrderDataMapper;
+import com.food.ordering.system.order.data.order.repository.OrderExportJdbcRepository;
+import com.food.ordering.system.order.data.order.repository.OrderJdbcBatchRepository;
 import com.food.ordering.system.order.data.order.repository.OrderJpaRepository;
+import com.food.ordering.system.order.data.order.repository.OrderSummaryJdbcRepository;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportRecord;
+import com.food.ordering.system.order.service.domain.dto.list.OrderCursor;
+import com.food.ordering.system.order.service.domain.dto.list.OrderSummary;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+@Component
+@Observed(name = "order.repository")
 @RequiredArgsConstructor
 public class OrderRepositoryImpl implements OrderRepository {
 
     private final OrderJpaRepository repository;
     private final OrderDataMapper mapper;
+    private final OrderJdbcBatchRepository batchRepository;
+    private final OrderSummaryJdbcRepository summaryRepository;
+    private final OrderExportJdbcRepository exportRepository;
+    private final EntityManager entityManager;
 
     @Override
     public Order save(Order order) {
         return mapper.map(repository.save(mapper.map(order)));
     }
 
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        batchRepository.insertAll(orders.stream().map(mapper::map).toList());
+        return orders;
+    }
+
+    @Override
+    public List<OrderId> updateAll(List<Order> orders) {
+        return batchRepository.updateStatusAll(orders.stream().map(mapper::map).toList())
+                .stream()
+                .map(OrderId::new)
+                .toList();
+    }
+
+    @Override
+    public List<Order> findByIds(List<OrderId> orderIds) {
+        var orderEntities = repository.findAllWithItemsByIdIn(orderIds.stream().map(OrderId::getValue).toList());
+        var orders = orderEntities.stream().map(mapper::map).toList();
+        orderEntities.forEach(entityManager::detach);
+        return orders;
+    }
+
     @Override
     public Optional<Order> findByTrackingId(TrackingId trackingId) {
-        return repository.findById(trackingId.getValue()).map(mapper::map);
+        return repository.findByTrackingId(trackingId.getValue())
+                .map(trackingView -> mapper.map(trackingView, isCancelled(trackingView.getOrderStatus()) ?
+                        repository.findFailureMessagesById(trackingView.getId()) : null));
+    }
+
+    @Override
+    public Stream<OrderSummary> findCustomerOrderSummaries(CustomerId customerId, OrderStatus orderStatus,
+                                                           OrderCursor after, int limit) {
+        return summaryRepository.findCustomerOrderSummaries(customerId.getValue(), orderStatus, after, limit);
+    }
+
+    @Override
+    public Stream<OrderSummary> findRestaurantOrderSummaries(RestaurantId restaurantId, OrderStatus orderStatus,
+                                                             OrderCursor after, int limit) {
+        return summaryRepository.findRestaurantOrderSummaries(restaurantId.getValue(), orderStatus, after, limit);
+    }
+
+    @Override
+    public long forEachExportedOrder(RestaurantId restaurantId, ZonedDateTime createdFrom, ZonedDateTime createdTo,
+                                     Consumer<OrderExportRecord> orderConsumer) {
+        return exportRepository.forEachOrder(restaurantId == null ? null : restaurantId.getValue(),
+                createdFrom, createdTo, orderConsumer);
+    }
+
+    /**
+     * Only cancelling and cancelled orders have failure messages, the other orders do not query them
+     */
+    private static boolean isCancelled(OrderStatus orderStatus) {
+        return orderStatus == OrderStatus.CANCELLING || orderStatus == OrderStatus.CANCELLED;
     }
 }
\ No newline at end of file
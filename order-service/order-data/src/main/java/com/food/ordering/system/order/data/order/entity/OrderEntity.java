@@ -2,13 +2,22 @@ package com.food.ordering.system.order.data.order.entity;
 
 import com.food.ordering.system.domain.valueobject.OrderStatus;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.OrderColumn;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,21 +25,46 @@ import lombok.NoArgsConstructor;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
 /**
  * AllArgsConstructor is needed for Builder pattern. NoArgsConstructor is required by spring to create a proxy objects
+ * Unique index on tracking id, the lookup key of the track order endpoint
+ * Version is checked on every update, a null version marks a new order
+ * Indexes on owner, status, creation date and id serve the order listings, a page is a range scan
+ * starting after the last listed order
+ * Every use case names what it loads: the saga loads the aggregate with the {@link #AGGREGATE_GRAPH}
+ * graph, tracking and listings read projections and the export reads through a JDBC cursor. The address
+ * is the inverse side of a one to one, Hibernate loads it with the order, one select per order unless a
+ * graph fetches it. Collections left out of a graph are batch fetched when touched
+ * Failure messages are rows of their own, lazy and left out of every graph. Only cancelled orders
+ * have them, they are appended by the status updates and read by tracking alone
  */
 @Data
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "orders")
+@NamedEntityGraph(name = OrderEntity.AGGREGATE_GRAPH,
+        attributeNodes = {@NamedAttributeNode("items"), @NamedAttributeNode("address")})
+@Table(name = "orders",
+        indexes = {
+                @Index(name = "orders_tracking_id_idx", columnList = "trackingId", unique = true),
+                @Index(name = "orders_customer_status_created_at_idx",
+                        columnList = "customerId, orderStatus, createdAt, id"),
+                @Index(name = "orders_restaurant_status_created_at_idx",
+                        columnList = "restaurantId, orderStatus, createdAt, id"),
+                @Index(name = "orders_created_at_idx", columnList = "createdAt, id")
+        })
 public class OrderEntity implements Serializable {
 
+    public static final String AGGREGATE_GRAPH = "OrderEntity.aggregate";
+    public static final int MAX_FAILURE_MESSAGES = 20;
+    public static final int MAX_FAILURE_MESSAGE_LENGTH = 1000;
+
     @Id
     private UUID id;
     private UUID customerId;
@@ -39,7 +73,15 @@ public class OrderEntity implements Serializable {
     private BigDecimal price;
     @Enumerated(EnumType.STRING)
     private OrderStatus orderStatus;
-    private String failureMessages;
+    @ElementCollection
+    @CollectionTable(name = "order_failure_messages", joinColumns = @JoinColumn(name = "order_id"))
+    @OrderColumn(name = "message_index")
+    @Column(name = "message", length = MAX_FAILURE_MESSAGE_LENGTH, nullable = false)
+    private List<String> failureMessages;
+    @Column(nullable = false)
+    private ZonedDateTime createdAt;
+    @Version
+    private Long version;
 
     @OneToOne(mappedBy = "order", cascade = CascadeType.ALL)
     private OrderAddressEntity address;
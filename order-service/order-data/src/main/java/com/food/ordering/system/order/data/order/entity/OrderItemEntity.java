@@ -4,6 +4,7 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -23,7 +24,8 @@ import java.util.UUID;
 @NoArgsConstructor
 @IdClass(OrderItemEntityId.class)
 @Entity
-@Table(name = "order_items")
+@Table(name = "order_items",
+        indexes = @Index(name = "order_items_order_id_idx", columnList = "order_id"))
 public class OrderItemEntity implements Serializable {
     @Id
     private Long id;
@@ -3,26 +3,20 @@ package com.food.ordering.system.order.data.order.mapper;
 import com.food.ordering.system.order.data.order.entity.OrderAddressEntity;
 import com.food.ordering.system.order.data.order.entity.OrderEntity;
 import com.food.ordering.system.order.data.order.entity.OrderItemEntity;
+import com.food.ordering.system.order.data.order.projection.OrderTrackingView;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.OrderItem;
 import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
-import org.mapstruct.Named;
 import org.mapstruct.NullValueCheckStrategy;
 import org.mapstruct.factory.Mappers;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
-@Mapper(nullValueCheckStrategy = NullValueCheckStrategy.ALWAYS)
+@Mapper(componentModel = "spring", nullValueCheckStrategy = NullValueCheckStrategy.ALWAYS)
 public interface OrderDataMapper {
 
-    String FAILURE_MESSAGE_DELIMITER = ",";
-
     OrderDataMapper ORDER_DATA_MAPPER = Mappers.getMapper(OrderDataMapper.class);
 
     @Mapping(source = "id.value", target = "id")
@@ -33,7 +27,7 @@ public interface OrderDataMapper {
     @Mapping(source = "price.amount", target = "price")
     @Mapping(source = "items", target = "items")
     @Mapping(source = "orderStatus", target = "orderStatus")
-    @Mapping(source = "failureMessages", target = "failureMessages", qualifiedByName = "mapFailureMessages")
+    @Mapping(source = "failureMessages", target = "failureMessages")
     OrderEntity map(Order domainOrder);
 
     OrderAddressEntity map(StreetAddress domainAddress);
@@ -44,24 +38,32 @@ public interface OrderDataMapper {
     @Mapping(source = "subTotal.amount", target = "subTotal")
     OrderItemEntity mapOrderItemDomainToEntity(OrderItem domainListOrderItems);
 
-    @Named("mapFailureMessages")
-    default String mapFailureMessages(List<String> failureMessages) {
-        return String.join(FAILURE_MESSAGE_DELIMITER,
-                Optional.ofNullable(failureMessages)
-                        .orElse(Collections.emptyList()));
-
-
-    }
-
     @Mapping(target = "id.value", source = "id")
     @Mapping(target = "customerId.value", source = "customerId")
     @Mapping(target = "restaurantId.value", source = "restaurantId")
     @Mapping(target = "trackingId.value", source = "trackingId")
     @Mapping(target = "deliveryAddress", source = "address")
-    @Mapping(target = "failureMessages", source = "failureMessages", qualifiedByName = "mapFailureMessages")
+    @Mapping(target = "failureMessages", ignore = true)
     @Mapping(target = "price.amount", source = "price")
     Order map(OrderEntity domainOrder);
 
+    /**
+     * The failure messages are only read for cancelled orders, null for the others. The
+     * projection only has what tracking an order needs, the rest of the order is left unset
+     */
+    @Mapping(target = "id.value", source = "trackingView.id")
+    @Mapping(target = "trackingId.value", source = "trackingView.trackingId")
+    @Mapping(target = "orderStatus", source = "trackingView.orderStatus")
+    @Mapping(target = "failureMessages", source = "failureMessages")
+    @Mapping(target = "customerId", ignore = true)
+    @Mapping(target = "restaurantId", ignore = true)
+    @Mapping(target = "deliveryAddress", ignore = true)
+    @Mapping(target = "price", ignore = true)
+    @Mapping(target = "items", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    Order map(OrderTrackingView trackingView, List<String> failureMessages);
+
     @Mapping(target = "id", expression = "java(new OrderItemId(source.getId()))")
     @Mapping(target = "orderId", expression = "java(new OrderId(source.getOrder().getId()))")
     @Mapping(target = "product", expression = "java(new Product(new ProductId(source.getProductId())))")
@@ -70,10 +72,4 @@ public interface OrderDataMapper {
     @Mapping(target = "quantity", source = "quantity")
     OrderItem mapOrderItemEntityToDomain(OrderItemEntity source);
 
-    @Named("mapFailureMessages")
-    default List<String> mapFailureMessages(String failureMessages) {
-        return new ArrayList<>(Arrays.asList(Optional.ofNullable(failureMessages)
-                .orElse("").split(FAILURE_MESSAGE_DELIMITER)));
-    }
-
 }
\ No newline at end of file
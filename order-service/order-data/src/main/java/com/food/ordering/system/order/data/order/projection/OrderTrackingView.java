@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.data.order.projection;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+
+import java.util.UUID;
+
+/**
+ * Read only projection with the columns needed to track an order, so the query
+ * does not load the address and the items of the order
+ */
+public interface OrderTrackingView {
+
+    UUID getId();
+
+    UUID getTrackingId();
+
+    OrderStatus getOrderStatus();
+}
@@ -0,0 +1,130 @@
+package com.food.ordering.system.order.data.order.repository;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderExportConfigData;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportItem;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ZONE_DATETIME_UTC;
+
+/**
+ * Orders joined with their address and items in one forward only, read only query. The driver
+ * fetches a fixed number of rows per round trip, which needs a transaction on PostgreSQL, and the
+ * rows of an order are adjacent, so only the order being read is held in memory
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderExportJdbcRepository {
+
+    private static final String SELECT_ORDERS =
+            "SELECT o.id, o.tracking_id, o.customer_id, o.restaurant_id, o.price, o.order_status, o.created_at, " +
+            "a.street, a.postal_code, a.city, " +
+            "i.id AS item_id, i.product_id, i.price AS item_price, i.quantity, i.sub_total " +
+            "FROM orders o " +
+            "LEFT JOIN orders_address a ON a.order_id = o.id " +
+            "LEFT JOIN order_items i ON i.order_id = o.id " +
+            "WHERE o.created_at >= ? AND o.created_at < ? ";
+    private static final String ORDER_BY = "ORDER BY o.created_at, o.id, i.id";
+    private static final String ALL_ORDERS = SELECT_ORDERS + ORDER_BY;
+    private static final String RESTAURANT_ORDERS = SELECT_ORDERS + "AND o.restaurant_id = ? " + ORDER_BY;
+
+    private static final ZoneId UTC = ZoneId.of(ZONE_DATETIME_UTC);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderExportConfigData orderExportConfigData;
+
+    public long forEachOrder(UUID restaurantId, ZonedDateTime createdFrom, ZonedDateTime createdTo,
+                             Consumer<OrderExportRecord> orderConsumer) {
+        PreparedStatementCreator statementCreator = connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    restaurantId == null ? ALL_ORDERS : RESTAURANT_ORDERS,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(orderExportConfigData.getFetchSize());
+            statement.setObject(1, createdFrom.toOffsetDateTime());
+            statement.setObject(2, createdTo.toOffsetDateTime());
+            if (restaurantId != null) {
+                statement.setObject(3, restaurantId);
+            }
+            return statement;
+        };
+        OrderExportRowCallbackHandler rowCallbackHandler = new OrderExportRowCallbackHandler(orderConsumer);
+        jdbcTemplate.query(statementCreator, rowCallbackHandler);
+        return rowCallbackHandler.finish();
+    }
+
+    /**
+     * Gathers the item rows of the current order, the order is handed over when the next
+     * order starts or the rows end
+     */
+    private static final class OrderExportRowCallbackHandler implements RowCallbackHandler {
+
+        private final Consumer<OrderExportRecord> orderConsumer;
+        private OrderExportRecord.OrderExportRecordBuilder current;
+        private UUID currentOrderId;
+        private List<OrderExportItem> currentItems;
+        private long orders;
+
+        private OrderExportRowCallbackHandler(Consumer<OrderExportRecord> orderConsumer) {
+            this.orderConsumer = orderConsumer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            UUID orderId = rs.getObject("id", UUID.class);
+            if (!orderId.equals(currentOrderId)) {
+                emitCurrent();
+                currentOrderId = orderId;
+                currentItems = new ArrayList<>();
+                current = OrderExportRecord.builder()
+                        .orderId(orderId)
+                        .trackingId(rs.getObject("tracking_id", UUID.class))
+                        .customerId(rs.getObject("customer_id", UUID.class))
+                        .restaurantId(rs.getObject("restaurant_id", UUID.class))
+                        .price(rs.getBigDecimal("price"))
+                        .orderStatus(OrderStatus.valueOf(rs.getString("order_status")))
+                        .createdAt(rs.getObject("created_at", OffsetDateTime.class).atZoneSameInstant(UTC))
+                        .street(rs.getString("street"))
+                        .postalCode(rs.getString("postal_code"))
+                        .city(rs.getString("city"))
+                        .items(currentItems);
+            }
+            long itemId = rs.getLong("item_id");
+            if (!rs.wasNull()) {
+                currentItems.add(new OrderExportItem(itemId,
+                        rs.getObject("product_id", UUID.class),
+                        rs.getBigDecimal("item_price"),
+                        rs.getInt("quantity"),
+                        rs.getBigDecimal("sub_total")));
+            }
+        }
+
+        private long finish() {
+            emitCurrent();
+            return orders;
+        }
+
+        private void emitCurrent() {
+            if (current != null) {
+                orderConsumer.accept(current.build());
+                current = null;
+                orders++;
+            }
+        }
+    }
+}
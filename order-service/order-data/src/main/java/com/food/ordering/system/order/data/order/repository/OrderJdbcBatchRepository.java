@@ -0,0 +1,103 @@
+package com.food.ordering.system.order.data.order.repository;
+
+import com.food.ordering.system.order.data.order.entity.OrderEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Inserts new orders with one JDBC batch per table and updates their status with one batch,
+ * the connection is the one of the surrounding JPA transaction. With reWriteBatchedInserts
+ * the driver sends each insert batch as a multi row insert. Updates check and increment the
+ * version like the JPA optimistic lock. Failure messages are appended after the last stored one of
+ * the order, messages past the bound of the order are dropped and long messages are cut
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderJdbcBatchRepository {
+
+    private static final String INSERT_ORDER = "INSERT INTO orders " +
+            "(id, customer_id, restaurant_id, tracking_id, price, order_status, created_at, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_ORDER_ITEM = "INSERT INTO order_items " +
+            "(id, order_id, product_id, price, quantity, sub_total) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ORDER_ADDRESS = "INSERT INTO orders_address " +
+            "(id, order_id, street, postal_code, city) " +
+            "VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_ORDER_STATUS = "UPDATE orders " +
+            "SET order_status = ?, version = version + 1 WHERE id = ? AND version = ?";
+    private static final String APPEND_FAILURE_MESSAGE = "INSERT INTO order_failure_messages " +
+            "(order_id, message_index, message) " +
+            "SELECT ?, COALESCE(MAX(message_index) + 1, 0), ? FROM order_failure_messages WHERE order_id = ? " +
+            "HAVING COALESCE(MAX(message_index) + 1, 0) < " + OrderEntity.MAX_FAILURE_MESSAGES;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<OrderEntity> orderEntities) {
+        List<Object[]> orders = new ArrayList<>(orderEntities.size());
+        List<Object[]> items = new ArrayList<>();
+        List<Object[]> addresses = new ArrayList<>(orderEntities.size());
+        for (OrderEntity order : orderEntities) {
+            orders.add(new Object[]{order.getId(), order.getCustomerId(), order.getRestaurantId(),
+                    order.getTrackingId(), order.getPrice(), order.getOrderStatus().name(),
+                    order.getCreatedAt().toOffsetDateTime()});
+            order.getItems().forEach(item -> items.add(new Object[]{item.getId(), order.getId(),
+                    item.getProductId(), item.getPrice(), item.getQuantity(), item.getSubTotal()}));
+            var address = order.getAddress();
+            addresses.add(new Object[]{address.getId(), order.getId(),
+                    address.getStreet(), address.getPostalCode(), address.getCity()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_ORDER, orders);
+        jdbcTemplate.batchUpdate(INSERT_ORDER_ITEM, items);
+        jdbcTemplate.batchUpdate(INSERT_ORDER_ADDRESS, addresses);
+        appendFailureMessages(orderEntities);
+    }
+
+    /**
+     * Returns the ids of the orders not updated because their version changed
+     */
+    public List<UUID> updateStatusAll(List<OrderEntity> orderEntities) {
+        List<Object[]> orders = new ArrayList<>(orderEntities.size());
+        for (OrderEntity order : orderEntities) {
+            orders.add(new Object[]{order.getOrderStatus().name(), order.getId(), order.getVersion()});
+        }
+        int[] updateCounts = jdbcTemplate.batchUpdate(UPDATE_ORDER_STATUS, orders);
+        List<UUID> conflicts = new ArrayList<>();
+        List<OrderEntity> updated = new ArrayList<>(orderEntities.size());
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] == 0) {
+                conflicts.add(orderEntities.get(i).getId());
+            } else {
+                updated.add(orderEntities.get(i));
+            }
+        }
+        appendFailureMessages(updated);
+        return conflicts;
+    }
+
+    /**
+     * Only the orders given new failure messages have rows to append, no statement is sent otherwise
+     */
+    private void appendFailureMessages(List<OrderEntity> orderEntities) {
+        List<Object[]> failureMessages = new ArrayList<>();
+        for (OrderEntity order : orderEntities) {
+            if (order.getFailureMessages() == null) {
+                continue;
+            }
+            for (String failureMessage : order.getFailureMessages()) {
+                failureMessages.add(new Object[]{order.getId(),
+                        failureMessage.length() > OrderEntity.MAX_FAILURE_MESSAGE_LENGTH ?
+                                failureMessage.substring(0, OrderEntity.MAX_FAILURE_MESSAGE_LENGTH) : failureMessage,
+                        order.getId()});
+            }
+        }
+        if (!failureMessages.isEmpty()) {
+            jdbcTemplate.batchUpdate(APPEND_FAILURE_MESSAGE, failureMessages);
+        }
+    }
+}
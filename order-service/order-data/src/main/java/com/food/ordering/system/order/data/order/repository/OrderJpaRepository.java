@@ -1,12 +1,35 @@
 package com.food.ordering.system.order.data.order.repository;
 
 import com.food.ordering.system.order.data.order.entity.OrderEntity;
+import com.food.ordering.system.order.data.order.projection.OrderTrackingView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
 
+    Optional<OrderTrackingView> findByTrackingId(UUID trackingId);
+
+    @Query("SELECT f FROM OrderEntity o JOIN o.failureMessages f WHERE o.id = :id ORDER BY INDEX(f)")
+    List<String> findFailureMessagesById(@Param("id") UUID id);
+
+    /**
+     * Items and address are fetched in the same select. The orders are changed through the
+     * domain and written with a batch update, so they are loaded read only and detached
+     * by the caller, a later call reads the current rows instead of the persistence context
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @EntityGraph(OrderEntity.AGGREGATE_GRAPH)
+    List<OrderEntity> findAllWithItemsByIdIn(Collection<UUID> ids);
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.food.ordering.system.order.data.order.repository;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.dto.list.OrderCursor;
+import com.food.ordering.system.order.service.domain.dto.list.OrderSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ZONE_DATETIME_UTC;
+
+/**
+ * Keyset pages of the orders table alone, the items and address are not read. The row value
+ * comparison on creation date and id continues right after the cursor in the owner, status,
+ * creation date and id index, so later pages cost the same as the first one
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderSummaryJdbcRepository {
+
+    private static final String CUSTOMER_ID = "customer_id";
+    private static final String RESTAURANT_ID = "restaurant_id";
+
+    private static final String CUSTOMER_FIRST_PAGE = firstPage(CUSTOMER_ID);
+    private static final String CUSTOMER_NEXT_PAGE = nextPage(CUSTOMER_ID);
+    private static final String RESTAURANT_FIRST_PAGE = firstPage(RESTAURANT_ID);
+    private static final String RESTAURANT_NEXT_PAGE = nextPage(RESTAURANT_ID);
+
+    private static final ZoneId UTC = ZoneId.of(ZONE_DATETIME_UTC);
+
+    private static final RowMapper<OrderSummary> ORDER_SUMMARY_ROW_MAPPER = (rs, rowNum) -> new OrderSummary(
+            rs.getObject("id", UUID.class),
+            rs.getObject("tracking_id", UUID.class),
+            rs.getObject("customer_id", UUID.class),
+            rs.getObject("restaurant_id", UUID.class),
+            rs.getBigDecimal("price"),
+            OrderStatus.valueOf(rs.getString("order_status")),
+            rs.getObject("created_at", OffsetDateTime.class).atZoneSameInstant(UTC));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Stream<OrderSummary> findCustomerOrderSummaries(UUID customerId, OrderStatus orderStatus,
+                                                           OrderCursor after, int limit) {
+        return findOrderSummaries(CUSTOMER_FIRST_PAGE, CUSTOMER_NEXT_PAGE, customerId, orderStatus, after, limit);
+    }
+
+    public Stream<OrderSummary> findRestaurantOrderSummaries(UUID restaurantId, OrderStatus orderStatus,
+                                                             OrderCursor after, int limit) {
+        return findOrderSummaries(RESTAURANT_FIRST_PAGE, RESTAURANT_NEXT_PAGE, restaurantId, orderStatus, after, limit);
+    }
+
+    private Stream<OrderSummary> findOrderSummaries(String firstPage, String nextPage, UUID ownerId,
+                                                    OrderStatus orderStatus, OrderCursor after, int limit) {
+        if (after == null) {
+            return jdbcTemplate.queryForStream(firstPage, ORDER_SUMMARY_ROW_MAPPER, ownerId, orderStatus.name(), limit);
+        }
+        return jdbcTemplate.queryForStream(nextPage, ORDER_SUMMARY_ROW_MAPPER, ownerId, orderStatus.name(),
+                after.getCreatedAt().toOffsetDateTime(), after.getOrderId(), limit);
+    }
+
+    private static String firstPage(String ownerColumn) {
+        return "SELECT id, tracking_id, customer_id, restaurant_id, price, order_status, created_at FROM orders " +
+                "WHERE " + ownerColumn + " = ? AND order_status = ? " +
+                "ORDER BY created_at DESC, id DESC LIMIT ?";
+    }
+
+    private static String nextPage(String ownerColumn) {
+        return "SELECT id, tracking_id, customer_id, restaurant_id, price, order_status, created_at FROM orders " +
+                "WHERE " + ownerColumn + " = ? AND order_status = ? AND (created_at, id) < (?, ?) " +
+                "ORDER BY created_at DESC, id DESC LIMIT ?";
+    }
+}
@@ -0,0 +1,56 @@
+package com.food.ordering.system.order.data.outbox.adapter;
+
+import com.food.ordering.system.order.data.outbox.entity.OrderOutboxEntity;
+import com.food.ordering.system.order.data.outbox.mapper.OrderOutboxDataMapper;
+import com.food.ordering.system.order.data.outbox.repository.OrderOutboxJpaRepository;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@Component
+@Observed(name = "order.repository")
+@RequiredArgsConstructor
+public class OrderOutboxRepositoryImpl implements OrderOutboxRepository {
+
+    private final OrderOutboxJpaRepository repository;
+    private final OrderOutboxDataMapper mapper;
+
+    @Override
+    public void save(OrderOutboxMessage orderOutboxMessage) {
+        repository.save(mapper.map(orderOutboxMessage));
+    }
+
+    @Override
+    public void saveAll(List<OrderOutboxMessage> orderOutboxMessages) {
+        repository.saveAll(mapper.mapToEntities(orderOutboxMessages));
+    }
+
+    /**
+     * The leases are written when the transaction commits, the claimed rows are only locked until then
+     */
+    @Override
+    @Transactional
+    public List<OrderOutboxMessage> claimBatch(OutboxStatus outboxStatus, int batchSize,
+                                               ZonedDateTime claimedAt, ZonedDateTime claimedUntil) {
+        List<OrderOutboxEntity> entities = repository.claimBatch(outboxStatus.name(), claimedAt, batchSize);
+        entities.forEach(entity -> entity.setClaimedUntil(claimedUntil));
+        return mapper.mapToMessages(entities);
+    }
+
+    @Override
+    public int deleteByStatusAndProcessedAtBefore(OutboxStatus outboxStatus, ZonedDateTime processedAt) {
+        return repository.deleteByStatusAndProcessedAtBefore(outboxStatus, processedAt);
+    }
+
+    @Override
+    public int restartByStatusAndProcessedAtBefore(OutboxStatus outboxStatus, ZonedDateTime processedAt) {
+        return repository.updateStatusByStatusAndProcessedAtBefore(OutboxStatus.STARTED, outboxStatus, processedAt);
+    }
+}
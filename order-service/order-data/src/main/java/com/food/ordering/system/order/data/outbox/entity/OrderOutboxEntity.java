@@ -0,0 +1,72 @@
+package com.food.ordering.system.order.data.outbox.entity;
+
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessageType;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Index on status and creation date so claiming the oldest STARTED messages
+ * does not scan the already published ones. claimedUntil is the lease of the drainer
+ * publishing the message, saving its outcome clears it, or sets it to the next attempt of a failed one.
+ * Every update of a message sets processedAt, so a message without it is new and
+ * is inserted directly instead of being merged with a select first
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "order_outbox",
+        indexes = @Index(name = "order_outbox_status_created_at_idx", columnList = "outboxStatus, createdAt"))
+public class OrderOutboxEntity implements Persistable<UUID>, Serializable {
+
+    @Id
+    private UUID id;
+    private UUID sagaId;
+    private UUID orderId;
+    @Enumerated(EnumType.STRING)
+    private OrderOutboxMessageType type;
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+    @Column(length = 512)
+    private String traceContext;
+    private ZonedDateTime createdAt;
+    private ZonedDateTime processedAt;
+    private ZonedDateTime claimedUntil;
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus outboxStatus;
+    private int attempts;
+
+    @Override
+    public boolean isNew() {
+        return processedAt == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OrderOutboxEntity that)) return false;
+        return id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,25 @@
+package com.food.ordering.system.order.data.outbox.mapper;
+
+import com.food.ordering.system.order.data.outbox.entity.OrderOutboxEntity;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface OrderOutboxDataMapper {
+
+    /**
+     * Saving a message ends the lease of its claim, a failed message is leased until its next attempt
+     */
+    @Mapping(target = "claimedUntil", source = "nextAttemptAt")
+    OrderOutboxEntity map(OrderOutboxMessage orderOutboxMessage);
+
+    @Mapping(target = "nextAttemptAt", ignore = true)
+    OrderOutboxMessage map(OrderOutboxEntity orderOutboxEntity);
+
+    List<OrderOutboxEntity> mapToEntities(List<OrderOutboxMessage> orderOutboxMessages);
+
+    List<OrderOutboxMessage> mapToMessages(List<OrderOutboxEntity> orderOutboxEntities);
+}
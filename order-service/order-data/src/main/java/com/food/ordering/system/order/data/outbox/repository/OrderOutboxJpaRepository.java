@@ -0,0 +1,44 @@
+package com.food.ordering.system.order.data.outbox.repository;
+
+import com.food.ordering.system.order.data.outbox.entity.OrderOutboxEntity;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OrderOutboxJpaRepository extends JpaRepository<OrderOutboxEntity, UUID> {
+
+    /**
+     * SKIP LOCKED lets every drainer, on this or on another node, claim a different batch
+     * without waiting for the rows being claimed by the others. Rows still leased, or failed
+     * rows waiting for their next attempt, are skipped
+     */
+    @Query(value = "SELECT * FROM order_outbox " +
+            "WHERE outbox_status = :outboxStatus " +
+            "AND (claimed_until IS NULL OR claimed_until < :claimedAt) " +
+            "ORDER BY created_at " +
+            "LIMIT :batchSize " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OrderOutboxEntity> claimBatch(@Param("outboxStatus") String outboxStatus,
+                                       @Param("claimedAt") ZonedDateTime claimedAt,
+                                       @Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query("DELETE FROM OrderOutboxEntity o WHERE o.outboxStatus = :outboxStatus AND o.processedAt < :processedAt")
+    int deleteByStatusAndProcessedAtBefore(@Param("outboxStatus") OutboxStatus outboxStatus,
+                                           @Param("processedAt") ZonedDateTime processedAt);
+
+    @Modifying
+    @Query("UPDATE OrderOutboxEntity o SET o.outboxStatus = :newStatus, o.attempts = 0, o.claimedUntil = NULL " +
+            "WHERE o.outboxStatus = :outboxStatus AND o.processedAt < :processedAt")
+    int updateStatusByStatusAndProcessedAtBefore(@Param("newStatus") OutboxStatus newStatus,
+                                                 @Param("outboxStatus") OutboxStatus outboxStatus,
+                                                 @Param("processedAt") ZonedDateTime processedAt);
+}
@@ -0,0 +1,37 @@
+package com.food.ordering.system.order.data.processedmessage.adapter;
+
+import com.food.ordering.system.order.data.processedmessage.mapper.ProcessedMessageDataMapper;
+import com.food.ordering.system.order.data.processedmessage.repository.ProcessedMessageJpaRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.ProcessedMessageRepository;
+import com.food.ordering.system.order.service.domain.saga.model.ProcessedMessage;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@Observed(name = "order.repository")
+@RequiredArgsConstructor
+public class ProcessedMessageRepositoryImpl implements ProcessedMessageRepository {
+
+    private final ProcessedMessageJpaRepository repository;
+    private final ProcessedMessageDataMapper mapper;
+
+    @Override
+    public List<UUID> findProcessedIds(List<UUID> messageIds) {
+        return repository.findIdsByIdIn(messageIds);
+    }
+
+    @Override
+    public void saveAll(List<ProcessedMessage> processedMessages) {
+        repository.saveAll(mapper.mapToEntities(processedMessages));
+    }
+
+    @Override
+    public int deleteByProcessedAtBefore(ZonedDateTime processedAt) {
+        return repository.deleteByProcessedAtBefore(processedAt);
+    }
+}
@@ -0,0 +1,52 @@
+package com.food.ordering.system.order.data.processedmessage.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Rows are only inserted, so they are always new and are persisted without a select first.
+ * Index on the processed date for the cleaner
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "processed_messages",
+        indexes = @Index(name = "processed_messages_processed_at_idx", columnList = "processedAt"))
+public class ProcessedMessageEntity implements Persistable<UUID>, Serializable {
+
+    @Id
+    private UUID id;
+    private UUID sagaId;
+    private ZonedDateTime processedAt;
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ProcessedMessageEntity that)) return false;
+        return id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
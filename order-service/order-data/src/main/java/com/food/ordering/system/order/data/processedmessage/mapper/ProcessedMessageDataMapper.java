@@ -0,0 +1,15 @@
+package com.food.ordering.system.order.data.processedmessage.mapper;
+
+import com.food.ordering.system.order.data.processedmessage.entity.ProcessedMessageEntity;
+import com.food.ordering.system.order.service.domain.saga.model.ProcessedMessage;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface ProcessedMessageDataMapper {
+
+    ProcessedMessageEntity map(ProcessedMessage processedMessage);
+
+    List<ProcessedMessageEntity> mapToEntities(List<ProcessedMessage> processedMessages);
+}
@@ -0,0 +1,30 @@
+package com.food.ordering.system.order.data.restaurant.adapter;
+
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.data.restaurant.mapper.RestaurantDataMapper;
+import com.food.ordering.system.order.data.restaurant.repository.RestaurantJpaRepository;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@Observed(name = "order.repository")
+@RequiredArgsConstructor
+public class RestaurantRepositoryImpl implements RestaurantRepository {
+
+    private final RestaurantJpaRepository repository;
+    private final RestaurantDataMapper mapper;
+
+    @Override
+    public Optional<Restaurant> findRestaurant(RestaurantId restaurantId) {
+        var restaurantEntities = repository.findByRestaurantId(restaurantId.getValue());
+        if (restaurantEntities.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(mapper.map(restaurantEntities));
+    }
+}
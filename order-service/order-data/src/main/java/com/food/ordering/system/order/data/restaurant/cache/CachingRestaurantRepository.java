@@ -0,0 +1,156 @@
+package com.food.ordering.system.order.data.restaurant.cache;
+
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.data.config.RestaurantCacheConfigData;
+import com.food.ordering.system.order.data.restaurant.adapter.RestaurantRepositoryImpl;
+import com.food.ordering.system.order.service.domain.config.VirtualThreadConfigData;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import com.food.ordering.system.order.service.domain.utils.MessageLogger;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.RESTAURANT_LOAD_REJECTED;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.RESTAURANT_SNAPSHOT_LOADED;
+
+/**
+ * Serves restaurants from cached snapshots. Entries are reloaded in the background once
+ * refreshAfterWriteSeconds have passed and they are read again, so hot restaurants are
+ * never loaded on the request thread after the first time. The cache is bounded by the
+ * total number of cached products, not by the number of restaurants.
+ * <p>
+ * The order service gets no menu change events, a changed menu is picked up by time alone. A restaurant
+ * read again and again is at most refreshAfterWriteSeconds stale, plus the time of its reload, and no
+ * restaurant is served from a snapshot older than expireAfterWriteSeconds.
+ * <p>
+ * First loads also run on the loader executor and the request thread waits for them, a query
+ * inside the compute lock of a synchronous cache would pin a virtual thread to its carrier.
+ * The loader executor is owned by the cache, so loads do not queue behind other work on the
+ * common pool
+ */
+@Primary
+@Component
+public class CachingRestaurantRepository implements RestaurantRepository, MeterBinder {
+
+    private static final MessageLogger log = MessageLogger.getLogger(CachingRestaurantRepository.class);
+
+    private final ExecutorService loaderExecutor;
+    private final AsyncLoadingCache<RestaurantId, RestaurantSnapshot> cache;
+
+    public CachingRestaurantRepository(RestaurantRepositoryImpl restaurantRepository,
+                                       RestaurantCacheConfigData configData,
+                                       VirtualThreadConfigData virtualThreadConfigData) {
+        this.loaderExecutor = createLoaderExecutor(configData, virtualThreadConfigData);
+        this.cache = Caffeine.newBuilder()
+                .executor(loaderExecutor)
+                .maximumWeight(configData.getMaximumProducts())
+                .weigher((RestaurantId restaurantId, RestaurantSnapshot snapshot) ->
+                        Math.max(1, snapshot.productCount()))
+                .refreshAfterWrite(Duration.ofSeconds(configData.getRefreshAfterWriteSeconds()))
+                .expireAfterWrite(Duration.ofSeconds(configData.getExpireAfterWriteSeconds()))
+                .recordStats()
+                .buildAsync(new SnapshotLoader(restaurantRepository));
+    }
+
+    /**
+     * Loader exceptions are thrown as they are, like the synchronous cache did. A first load the
+     * loader executor rejects fails the request, it is not run on the request thread
+     */
+    @Override
+    public Optional<Restaurant> findRestaurant(RestaurantId restaurantId) {
+        try {
+            return Optional.ofNullable(cache.get(restaurantId).join()).map(RestaurantSnapshot::getRestaurant);
+        } catch (RejectedExecutionException e) {
+            String errorMessage = String.format(RESTAURANT_LOAD_REJECTED, restaurantId.getValue());
+            log.warn(RESTAURANT_LOAD_REJECTED, restaurantId.getValue());
+            throw new OrderDomainException(errorMessage, e);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        new CaffeineCacheMetrics<>(cache.synchronous(), "restaurant-snapshots", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    /**
+     * A full queue rejects the load. A rejected refresh is skipped and the current snapshot
+     * served until a later read refreshes it, a rejected first load fails the request
+     */
+    private static ExecutorService createLoaderExecutor(RestaurantCacheConfigData configData,
+                                                        VirtualThreadConfigData virtualThreadConfigData) {
+        if (virtualThreadConfigData.getEnabled()) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("restaurant-cache-loader-", 0).factory());
+        }
+        return new ThreadPoolExecutor(
+                configData.getLoaderThreads(), configData.getLoaderThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(configData.getLoaderQueueCapacity()),
+                new CustomizableThreadFactory("restaurant-cache-loader-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void close() {
+        loaderExecutor.shutdownNow();
+    }
+
+    /**
+     * Unknown restaurants are not cached, and a restaurant that is gone on reload is removed
+     */
+    @RequiredArgsConstructor
+    private static class SnapshotLoader implements CacheLoader<RestaurantId, RestaurantSnapshot> {
+
+        private final RestaurantRepository restaurantRepository;
+
+        @Override
+        public RestaurantSnapshot load(RestaurantId restaurantId) {
+            return restaurantRepository.findRestaurant(restaurantId)
+                    .map(restaurant -> logLoaded(new RestaurantSnapshot(restaurant, 1L)))
+                    .orElse(null);
+        }
+
+        @Override
+        public RestaurantSnapshot reload(RestaurantId restaurantId, RestaurantSnapshot oldSnapshot) {
+            return restaurantRepository.findRestaurant(restaurantId)
+                    .map(restaurant -> logLoaded(oldSnapshot.next(restaurant)))
+                    .orElse(null);
+        }
+
+        private static RestaurantSnapshot logLoaded(RestaurantSnapshot snapshot) {
+            log.debug(RESTAURANT_SNAPSHOT_LOADED,
+                    snapshot.getRestaurant().getId().getValue(), snapshot.getVersion(), snapshot.productCount());
+            return snapshot;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.food.ordering.system.order.data.restaurant.cache;
+
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Restaurant menu as loaded at one point in time. A snapshot is never modified, a reload
+ * replaces it with a new one and the next version, so an order is always priced against
+ * a single consistent menu
+ */
+@Getter
+@RequiredArgsConstructor
+public class RestaurantSnapshot {
+    private final Restaurant restaurant;
+    private final long version;
+
+    public RestaurantSnapshot next(Restaurant reloaded) {
+        return new RestaurantSnapshot(reloaded, version + 1);
+    }
+
+    public int productCount() {
+        return restaurant.getProducts().size();
+    }
+}
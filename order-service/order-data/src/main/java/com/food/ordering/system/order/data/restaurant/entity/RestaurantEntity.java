@@ -0,0 +1,49 @@
+package com.food.ordering.system.order.data.restaurant.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * One row per restaurant product of the view maintained by the restaurant service
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@IdClass(RestaurantEntityId.class)
+@Entity
+@Table(name = "order_restaurant_m_view", schema = "restaurant")
+public class RestaurantEntity implements Serializable {
+
+    @Id
+    private UUID restaurantId;
+    @Id
+    private UUID productId;
+    private String restaurantName;
+    private Boolean restaurantActive;
+    private String productName;
+    private BigDecimal productPrice;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RestaurantEntity that)) return false;
+        return restaurantId.equals(that.restaurantId) && productId.equals(that.productId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(restaurantId, productId);
+    }
+}
@@ -0,0 +1,21 @@
+package com.food.ordering.system.order.data.restaurant.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+public class RestaurantEntityId implements Serializable {
+
+    private UUID restaurantId;
+    private UUID productId;
+}
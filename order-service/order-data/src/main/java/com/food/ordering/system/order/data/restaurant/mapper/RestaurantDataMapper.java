@@ -0,0 +1,35 @@
+package com.food.ordering.system.order.data.restaurant.mapper;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.data.restaurant.entity.RestaurantEntity;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface RestaurantDataMapper {
+
+    /**
+     * Restaurant columns are repeated on every product row, they are taken from the first one.
+     * The product list is not modifiable so the restaurant can be shared as a snapshot
+     */
+    default Restaurant map(List<RestaurantEntity> restaurantEntities) {
+        var restaurantEntity = restaurantEntities.get(0);
+        return new Restaurant.Builder(restaurantEntities.stream()
+                .map(this::mapProduct)
+                .toList())
+                .restaurantId(new RestaurantId(restaurantEntity.getRestaurantId()))
+                .active(restaurantEntity.getRestaurantActive())
+                .build();
+    }
+
+    default Product mapProduct(RestaurantEntity restaurantEntity) {
+        return new Product(new ProductId(restaurantEntity.getProductId()),
+                restaurantEntity.getProductName(),
+                new Money(restaurantEntity.getProductPrice()));
+    }
+}
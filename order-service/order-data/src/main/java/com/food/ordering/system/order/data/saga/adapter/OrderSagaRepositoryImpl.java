@@ -0,0 +1,39 @@
+package com.food.ordering.system.order.data.saga.adapter;
+
+import com.food.ordering.system.order.data.saga.mapper.OrderSagaDataMapper;
+import com.food.ordering.system.order.data.saga.repository.OrderSagaJdbcBatchRepository;
+import com.food.ordering.system.order.data.saga.repository.OrderSagaJpaRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderSagaRepository;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSaga;
+import com.food.ordering.system.order.service.domain.saga.model.SagaStatus;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@Component
+@Observed(name = "order.repository")
+@RequiredArgsConstructor
+public class OrderSagaRepositoryImpl implements OrderSagaRepository {
+
+    private final OrderSagaJpaRepository repository;
+    private final OrderSagaJdbcBatchRepository batchRepository;
+    private final OrderSagaDataMapper mapper;
+
+    @Override
+    public void saveAll(List<OrderSaga> orderSagas) {
+        repository.saveAll(mapper.mapToEntities(orderSagas));
+    }
+
+    @Override
+    public void updateAll(List<OrderSaga> orderSagas) {
+        batchRepository.updateStepAll(mapper.mapToEntities(orderSagas));
+    }
+
+    @Override
+    public List<OrderSaga> claimTimedOut(SagaStatus sagaStatus, ZonedDateTime updatedBefore, int batchSize) {
+        return mapper.mapToSagas(repository.claimTimedOut(sagaStatus.name(), updatedBefore, batchSize));
+    }
+}
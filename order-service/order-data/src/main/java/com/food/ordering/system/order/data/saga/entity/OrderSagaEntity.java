@@ -0,0 +1,66 @@
+package com.food.ordering.system.order.data.saga.entity;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.saga.model.SagaStatus;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * One narrow row per saga. Index on status and update date, so the timed out sagas of a status
+ * are a range scan however many finished sagas the table keeps.
+ * Rows are only inserted through JPA, steps are written with a JDBC batch update
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "order_saga",
+        indexes = @Index(name = "order_saga_status_updated_at_idx", columnList = "sagaStatus, updatedAt"))
+public class OrderSagaEntity implements Persistable<UUID>, Serializable {
+
+    @Id
+    private UUID sagaId;
+    private UUID orderId;
+    @Enumerated(EnumType.STRING)
+    private SagaStatus sagaStatus;
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+    private ZonedDateTime updatedAt;
+
+    @Override
+    public UUID getId() {
+        return sagaId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OrderSagaEntity that)) return false;
+        return sagaId.equals(that.sagaId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sagaId);
+    }
+}
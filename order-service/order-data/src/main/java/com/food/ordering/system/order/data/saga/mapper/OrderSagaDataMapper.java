@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.data.saga.mapper;
+
+import com.food.ordering.system.order.data.saga.entity.OrderSagaEntity;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSaga;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface OrderSagaDataMapper {
+
+    OrderSagaEntity map(OrderSaga orderSaga);
+
+    OrderSaga map(OrderSagaEntity orderSagaEntity);
+
+    List<OrderSagaEntity> mapToEntities(List<OrderSaga> orderSagas);
+
+    List<OrderSaga> mapToSagas(List<OrderSagaEntity> orderSagaEntities);
+}
@@ -0,0 +1,32 @@
+package com.food.ordering.system.order.data.saga.repository;
+
+import com.food.ordering.system.order.data.saga.entity.OrderSagaEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Updates the saga steps of a batch with one JDBC batch, on the connection of the
+ * surrounding JPA transaction
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderSagaJdbcBatchRepository {
+
+    private static final String UPDATE_SAGA_STEP = "UPDATE order_saga " +
+            "SET saga_status = ?, order_status = ?, updated_at = ? WHERE saga_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void updateStepAll(List<OrderSagaEntity> orderSagaEntities) {
+        List<Object[]> sagas = new ArrayList<>(orderSagaEntities.size());
+        for (OrderSagaEntity saga : orderSagaEntities) {
+            sagas.add(new Object[]{saga.getSagaStatus().name(), saga.getOrderStatus().name(),
+                    saga.getUpdatedAt().toOffsetDateTime(), saga.getSagaId()});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_SAGA_STEP, sagas);
+    }
+}
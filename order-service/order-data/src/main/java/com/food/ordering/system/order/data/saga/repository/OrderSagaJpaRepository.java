@@ -0,0 +1,28 @@
+package com.food.ordering.system.order.data.saga.repository;
+
+import com.food.ordering.system.order.data.saga.entity.OrderSagaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OrderSagaJpaRepository extends JpaRepository<OrderSagaEntity, UUID> {
+
+    /**
+     * Reads the status and update date index from its start up to updatedBefore, SKIP LOCKED
+     * lets every sweeper claim a different batch
+     */
+    @Query(value = "SELECT * FROM order_saga " +
+            "WHERE saga_status = :sagaStatus AND updated_at < :updatedBefore " +
+            "ORDER BY updated_at " +
+            "LIMIT :batchSize " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OrderSagaEntity> claimTimedOut(@Param("sagaStatus") String sagaStatus,
+                                        @Param("updatedBefore") ZonedDateTime updatedBefore,
+                                        @Param("batchSize") int batchSize);
+}
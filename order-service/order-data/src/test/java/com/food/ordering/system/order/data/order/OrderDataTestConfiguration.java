@@ -0,0 +1,10 @@
+package com.food.ordering.system.order.data.order;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Scans the order entities and repositories only, the other adapters are not needed
+ */
+@SpringBootApplication
+public class OrderDataTestConfiguration {
+}
@@ -0,0 +1,221 @@
+package com.food.ordering.system.order.data.order.adapter;
+
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.data.order.entity.OrderAddressEntity;
+import com.food.ordering.system.order.data.order.entity.OrderEntity;
+import com.food.ordering.system.order.data.order.entity.OrderItemEntity;
+import com.food.ordering.system.order.data.order.mapper.OrderDataMapperImpl;
+import com.food.ordering.system.order.data.order.repository.OrderExportJdbcRepository;
+import com.food.ordering.system.order.data.order.repository.OrderJdbcBatchRepository;
+import com.food.ordering.system.order.data.order.repository.OrderSummaryJdbcRepository;
+import com.food.ordering.system.order.service.domain.config.OrderExportConfigData;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportItem;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts the statements of every load, a use case loading more than it needs shows up as more statements.
+ * The Hibernate statistics only count the statements of Hibernate, the ones run through JdbcTemplate are
+ * counted on the connections of the data source
+ */
+@DataJpaTest
+@Import({OrderRepositoryImpl.class, OrderDataMapperImpl.class, OrderJdbcBatchRepository.class,
+        OrderSummaryJdbcRepository.class, OrderExportJdbcRepository.class, OrderExportConfigData.class})
+class OrderRepositoryImplTest {
+
+    private static final int ORDERS = 5;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private OrderRepositoryImpl orderRepository;
+
+    @Autowired
+    private OrderJdbcBatchRepository orderJdbcBatchRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private static final AtomicInteger PREPARED_STATEMENTS = new AtomicInteger();
+
+    private final List<OrderEntity> orderEntities = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ORDERS; i++) {
+            orderEntities.add(orderEntity());
+        }
+        orderJdbcBatchRepository.insertAll(orderEntities);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        PREPARED_STATEMENTS.set(0);
+    }
+
+    @Test
+    void findByTrackingId_whenOrderExists_thenOnlyStatusRead() {
+        var order = orderRepository.findByTrackingId(new TrackingId(orderEntities.get(0).getTrackingId()));
+
+        assertEquals(OrderStatus.PENDING, order.orElseThrow().getOrderStatus());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void findByIds_whenSeveralOrders_thenAggregatesFetchedInOneStatement() {
+        List<Order> orders = orderRepository.findByIds(orderEntities.stream()
+                .map(orderEntity -> new OrderId(orderEntity.getId()))
+                .toList());
+
+        assertEquals(ORDERS, orders.size());
+        orders.forEach(order -> {
+            assertEquals(ITEMS_PER_ORDER, order.getItems().size());
+            assertEquals("street", order.getDeliveryAddress().getStreet());
+        });
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void updateAll_whenFailureMessagesAdded_thenAppendedAndReadByTracking() {
+        var orderId = new OrderId(orderEntities.get(0).getId());
+        var trackingId = new TrackingId(orderEntities.get(0).getTrackingId());
+        Order order = orderRepository.findByIds(List.of(orderId)).get(0);
+        order.cancel(List.of("Payment failed, card expired", ""));
+        assertTrue(orderRepository.updateAll(List.of(order)).isEmpty());
+        order = orderRepository.findByIds(List.of(orderId)).get(0);
+        order.updateFailureMessage(List.of("Restaurant is closed"));
+        assertTrue(orderRepository.updateAll(List.of(order)).isEmpty());
+        statistics.clear();
+
+        var trackedOrder = orderRepository.findByTrackingId(trackingId).orElseThrow();
+
+        assertEquals(OrderStatus.CANCELLED, trackedOrder.getOrderStatus());
+        assertEquals(List.of("Payment failed, card expired", "Restaurant is closed"), trackedOrder.getFailureMessages());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void forEachExportedOrder_whenSeveralOrders_thenEveryOrderReadWithItemsAndAddress() {
+        List<Integer> itemCounts = new ArrayList<>();
+        List<String> streets = new ArrayList<>();
+
+        long exported = orderRepository.forEachExportedOrder(null, ZonedDateTime.now().minusHours(1),
+                ZonedDateTime.now().plusHours(1), orderExportRecord -> {
+                    itemCounts.add(orderExportRecord.getItems().size());
+                    streets.add(orderExportRecord.getStreet());
+                });
+
+        assertEquals(ORDERS, exported);
+        assertTrue(itemCounts.stream().allMatch(itemCount -> itemCount == ITEMS_PER_ORDER));
+        assertTrue(streets.stream().allMatch("street"::equals));
+        assertEquals(1, PREPARED_STATEMENTS.get());
+    }
+
+    @Test
+    void forEachExportedOrder_whenOrderWithoutItems_thenRowsGroupedByOrder() {
+        var orderWithoutItems = orderEntity();
+        orderWithoutItems.setItems(List.of());
+        orderJdbcBatchRepository.insertAll(List.of(orderWithoutItems));
+        Map<UUID, List<Long>> itemIdsByOrder = new LinkedHashMap<>();
+
+        long exported = orderRepository.forEachExportedOrder(null, ZonedDateTime.now().minusHours(1),
+                ZonedDateTime.now().plusHours(1), orderExportRecord -> itemIdsByOrder.put(orderExportRecord.getOrderId(),
+                        orderExportRecord.getItems().stream().map(OrderExportItem::getItemId).toList()));
+
+        assertEquals(ORDERS + 1, exported);
+        assertEquals(ORDERS + 1, itemIdsByOrder.size());
+        assertEquals(List.of(), itemIdsByOrder.get(orderWithoutItems.getId()));
+        orderEntities.forEach(orderEntity -> assertEquals(List.of(1L, 2L, 3L), itemIdsByOrder.get(orderEntity.getId())));
+    }
+
+    @TestConfiguration
+    static class PreparedStatementCountingConfiguration {
+
+        @Bean
+        static BeanPostProcessor preparedStatementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return countingPreparedStatements(super.getConnection());
+                        }
+                    } : bean;
+                }
+            };
+        }
+
+        private static Connection countingPreparedStatements(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("prepareStatement")) {
+                            PREPARED_STATEMENTS.incrementAndGet();
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+
+    private OrderEntity orderEntity() {
+        List<OrderItemEntity> items = new ArrayList<>(ITEMS_PER_ORDER);
+        for (long itemId = 1; itemId <= ITEMS_PER_ORDER; itemId++) {
+            items.add(OrderItemEntity.builder()
+                    .id(itemId)
+                    .productId(UUID.randomUUID())
+                    .price(new BigDecimal("10.00"))
+                    .quantity(1)
+                    .subTotal(new BigDecimal("10.00"))
+                    .build());
+        }
+        return OrderEntity.builder()
+                .id(UUID.randomUUID())
+                .customerId(UUID.randomUUID())
+                .restaurantId(UUID.randomUUID())
+                .trackingId(UUID.randomUUID())
+                .price(new BigDecimal("30.00"))
+                .orderStatus(OrderStatus.PENDING)
+                .createdAt(ZonedDateTime.now())
+                .items(items)
+                .address(OrderAddressEntity.builder()
+                        .id(UUID.randomUUID())
+                        .street("street")
+                        .postalCode("1000AA")
+                        .city("city")
+                        .build())
+                .build();
+    }
+}
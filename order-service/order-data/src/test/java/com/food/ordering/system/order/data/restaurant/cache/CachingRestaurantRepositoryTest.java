@@ -0,0 +1,110 @@
+package com.food.ordering.system.order.data.restaurant.cache;
+
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.data.config.RestaurantCacheConfigData;
+import com.food.ordering.system.order.data.restaurant.adapter.RestaurantRepositoryImpl;
+import com.food.ordering.system.order.service.domain.config.VirtualThreadConfigData;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.RESTAURANT_LOAD_REJECTED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CachingRestaurantRepositoryTest {
+
+    private static final int MAX_READS = 5;
+
+    private final CountDownLatch released = new CountDownLatch(1);
+    private final AtomicReference<OrderDomainException> rejection = new AtomicReference<>();
+    private final AtomicReference<String> expectedRejectionMessage = new AtomicReference<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private CachingRestaurantRepository cachingRestaurantRepository;
+
+    @BeforeEach
+    void init() {
+        RestaurantRepositoryImpl restaurantRepository = mock(RestaurantRepositoryImpl.class);
+        when(restaurantRepository.findRestaurant(any())).thenAnswer(invocation -> {
+            loads.incrementAndGet();
+            released.await();
+            return Optional.empty();
+        });
+        RestaurantCacheConfigData configData = new RestaurantCacheConfigData();
+        configData.setLoaderThreads(1);
+        configData.setLoaderQueueCapacity(1);
+        cachingRestaurantRepository = new CachingRestaurantRepository(restaurantRepository, configData,
+                new VirtualThreadConfigData());
+    }
+
+    @AfterEach
+    void close() {
+        released.countDown();
+        cachingRestaurantRepository.close();
+    }
+
+    /**
+     * The single loader thread is blocked by the first load, the queue is filled by a load or by
+     * a maintenance task of the cache, the next load is rejected instead of running on its caller
+     */
+    @Test
+    void findRestaurant_whenLoaderQueueFull_thenRejectedWithoutLoadingOnCallerThread() throws InterruptedException {
+        List<Thread> reads = new ArrayList<>();
+        reads.add(startRead());
+        assertTrue(await(() -> loads.get() == 1));
+
+        while (rejection.get() == null && reads.size() < MAX_READS) {
+            Thread read = startRead();
+            reads.add(read);
+            assertTrue(await(() -> read.getState() == Thread.State.WAITING || read.getState() == Thread.State.TERMINATED));
+        }
+
+        assertNotNull(rejection.get());
+        assertEquals(expectedRejectionMessage.get(), rejection.get().getMessage());
+        assertEquals(1, loads.get());
+        released.countDown();
+        for (Thread read : reads) {
+            read.join();
+        }
+    }
+
+    private Thread startRead() {
+        RestaurantId restaurantId = new RestaurantId(UUID.randomUUID());
+        Thread read = new Thread(() -> {
+            try {
+                cachingRestaurantRepository.findRestaurant(restaurantId);
+            } catch (OrderDomainException e) {
+                expectedRejectionMessage.set(String.format(RESTAURANT_LOAD_REJECTED, restaurantId.getValue()));
+                rejection.set(e);
+            }
+        });
+        read.start();
+        return read;
+    }
+
+    private static boolean await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(1);
+        }
+        return true;
+    }
+}
@@ -2,30 +2,56 @@ package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
+import com.food.ordering.system.order.service.domain.dto.export.ExportOrdersQuery;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExport;
+import com.food.ordering.system.order.service.domain.dto.list.ListOrdersQuery;
+import com.food.ordering.system.order.service.domain.dto.list.OrderListing;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+
 @Slf4j
 @Validated
 @Service
+@Observed(name = "order.application")
 @RequiredArgsConstructor
 class OrderApplicationServiceImpl implements OrderApplicationService {
 
     private final OrderCreateCommandHandler orderCreateCommandHandler;
     private final OrderTrackCommandHandler orderTrackCommandHandler;
+    private final OrderListCommandHandler orderListCommandHandler;
+    private final OrderExportCommandHandler orderExportCommandHandler;
 
     @Override
     public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand) {
         return orderCreateCommandHandler.createOrder(createOrderCommand);
     }
 
+    @Override
+    public List<CreateOrderResult> createOrders(List<CreateOrderCommand> createOrderCommands) {
+        return orderCreateCommandHandler.createOrders(createOrderCommands);
+    }
+
     @Override
     public TrackOrderResponse trackOrder(TrackOrderQuery trackOrderQuery) {
         return orderTrackCommandHandler.trackOrder(trackOrderQuery);
     }
+
+    @Override
+    public OrderListing listOrders(ListOrdersQuery listOrdersQuery) {
+        return orderListCommandHandler.listOrders(listOrdersQuery);
+    }
+
+    @Override
+    public OrderExport exportOrders(ExportOrdersQuery exportOrdersQuery) {
+        return orderExportCommandHandler.exportOrders(exportOrdersQuery);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,173 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.config.OrderCreateConfigData;
+import com.food.ordering.system.order.service.domain.config.VirtualThreadConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.entity.Customer;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.metrics.OrderMetrics;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.CUSTOMER_CHECK_INTERRUPTED;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.CUSTOMER_CHECK_REJECTED;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.CUSTOMER_CHECK_TIMED_OUT;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.CUSTOMER_NOT_FOUND;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.RESTAURANT_NOT_FOUND;
+
+/**
+ * Customer and restaurant checks of a create order command. They are reads outside of the
+ * order transaction, so they are run before it starts and do not hold its connection
+ */
+@Slf4j
+@Component
+public class OrderCreateChecker {
+
+    private final CustomerRepository customerRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final OrderCreateConfigData orderCreateConfigData;
+    private final OrderMetrics orderMetrics;
+    private final ExecutorService checkExecutor;
+
+    public OrderCreateChecker(CustomerRepository customerRepository,
+                              RestaurantRepository restaurantRepository,
+                              OrderCreateConfigData orderCreateConfigData,
+                              VirtualThreadConfigData virtualThreadConfigData,
+                              OrderMetrics orderMetrics) {
+        this.customerRepository = customerRepository;
+        this.restaurantRepository = restaurantRepository;
+        this.orderCreateConfigData = orderCreateConfigData;
+        this.orderMetrics = orderMetrics;
+        this.checkExecutor = createCheckExecutor(orderCreateConfigData, virtualThreadConfigData);
+    }
+
+    /**
+     * The customer is checked on the check executor while the restaurant is loaded on the
+     * calling thread. When both fail the customer error is thrown, like the checks in sequence
+     */
+    public Restaurant checkCustomerAndRestaurant(CreateOrderCommand createOrderCommand) {
+        Future<?> customerCheck = submitCustomerCheck(createOrderCommand.getCustomerId());
+        Restaurant restaurant = null;
+        RuntimeException restaurantFailure = null;
+        try {
+            restaurant = checkRestaurant(createOrderCommand);
+        } catch (RuntimeException e) {
+            restaurantFailure = e;
+        }
+        awaitCustomerCheck(customerCheck, createOrderCommand.getCustomerId());
+        if (restaurantFailure != null) {
+            throw restaurantFailure;
+        }
+        return restaurant;
+    }
+
+    public void checkCustomer(UUID customerId) {
+        long start = System.nanoTime();
+        Optional<Customer> customer;
+        try {
+            customer = customerRepository.findCustomer(customerId);
+        } finally {
+            orderMetrics.recordCustomerCheck(start);
+        }
+        if (customer.isEmpty()) {
+            String errorMessage = String.format(CUSTOMER_NOT_FOUND, customerId);
+            log.warn(errorMessage);
+            throw new OrderDomainException(errorMessage);
+        }
+    }
+
+    public Restaurant checkRestaurant(CreateOrderCommand createOrderCommand) {
+        long start = System.nanoTime();
+        Optional<Restaurant> restaurant;
+        try {
+            restaurant = restaurantRepository.findRestaurant(new RestaurantId(createOrderCommand.getRestaurantId()));
+        } finally {
+            orderMetrics.recordRestaurantCheck(start);
+        }
+        if (restaurant.isEmpty()) {
+            String errorMessage = String.format(RESTAURANT_NOT_FOUND, createOrderCommand.getRestaurantId());
+            log.warn(errorMessage);
+            throw new OrderDomainException(errorMessage);
+        }
+        return restaurant.get();
+    }
+
+    /**
+     * A full check queue rejects the request, running the check on the request thread would
+     * leave it without the check timeout
+     */
+    private Future<?> submitCustomerCheck(UUID customerId) {
+        try {
+            return checkExecutor.submit(() -> checkCustomer(customerId));
+        } catch (RejectedExecutionException e) {
+            String errorMessage = String.format(CUSTOMER_CHECK_REJECTED, customerId);
+            log.warn(errorMessage);
+            throw new OrderDomainException(errorMessage, e);
+        }
+    }
+
+    /**
+     * Errors of the check are rethrown as they are, a check that does not finish in time
+     * is cancelled, which interrupts the thread running it, and reported as an OrderDomainException
+     */
+    private void awaitCustomerCheck(Future<?> customerCheck, UUID customerId) {
+        try {
+            customerCheck.get(orderCreateConfigData.getCheckTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            customerCheck.cancel(true);
+            String errorMessage = String.format(CUSTOMER_CHECK_TIMED_OUT, customerId,
+                    orderCreateConfigData.getCheckTimeoutMs());
+            log.warn(errorMessage);
+            throw new OrderDomainException(errorMessage, e);
+        } catch (InterruptedException e) {
+            customerCheck.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new OrderDomainException(String.format(CUSTOMER_CHECK_INTERRUPTED, customerId), e);
+        }
+    }
+
+    /**
+     * A virtual thread per check needs no queue, concurrent checks are bounded by the
+     * connection pool the same way the request threads are
+     */
+    private static ExecutorService createCheckExecutor(OrderCreateConfigData orderCreateConfigData,
+                                                       VirtualThreadConfigData virtualThreadConfigData) {
+        if (virtualThreadConfigData.getEnabled()) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("order-create-check-", 0).factory());
+        }
+        return new ThreadPoolExecutor(
+                orderCreateConfigData.getCheckThreads(), orderCreateConfigData.getCheckThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(orderCreateConfigData.getCheckQueueCapacity()),
+                new CustomizableThreadFactory("order-create-check-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void close() {
+        checkExecutor.shutdownNow();
+    }
+}
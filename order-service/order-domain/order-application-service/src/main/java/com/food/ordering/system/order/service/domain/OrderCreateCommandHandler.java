@@ -1,13 +1,18 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.order.service.domain.config.OrderCreateConfigData;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
-import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_BATCH_SIZE_NOT_VALID;
 import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_CREATED_SUCCESSFULLY;
 
 @Slf4j
@@ -16,14 +21,23 @@ import static com.food.ordering.system.order.service.domain.utils.MessageConstan
 public class OrderCreateCommandHandler {
 
     private final OrderCreateHelper orderCreateHelper;
+    private final OrderCreateChecker orderCreateChecker;
     private final OrderDataMapper orderDataMapper;
-
-    private final OrderCreatedPaymentRequestMessagePublisher requestMessagePublisher;
+    private final OrderCreateConfigData orderCreateConfigData;
 
     public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand) {
-        var createdOrder = orderCreateHelper.persistOrder(createOrderCommand);
-        requestMessagePublisher.publish(createdOrder);
+        var restaurant = orderCreateChecker.checkCustomerAndRestaurant(createOrderCommand);
+        var createdOrder = orderCreateHelper.persistOrder(createOrderCommand, restaurant);
         return orderDataMapper.orderToCreateOrderResponse(createdOrder.getOrder(), ORDER_CREATED_SUCCESSFULLY);
     }
 
+    public List<CreateOrderResult> createOrders(List<CreateOrderCommand> createOrderCommands) {
+        if (createOrderCommands.size() > orderCreateConfigData.getMaxBatchSize()) {
+            String message = String.format(ORDER_BATCH_SIZE_NOT_VALID, orderCreateConfigData.getMaxBatchSize());
+            log.warn(message);
+            throw new OrderDomainException(message);
+        }
+        return orderCreateHelper.persistOrders(createOrderCommands);
+    }
+
 }
\ No newline at end of file
@@ -1,79 +1,166 @@
 package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
-import com.food.ordering.system.order.service.domain.entity.Customer;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.event.OrderEvent;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
-import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.metrics.OrderMetrics;
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
-import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import com.food.ordering.system.order.service.domain.saga.OrderSagaHelper;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSaga;
+import com.food.ordering.system.order.service.domain.utils.MessageLogger;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
-import static com.food.ordering.system.order.service.domain.utils.MessageConstants.CUSTOMER_NOT_FOUND;
 import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ERROR_SAVING_ORDER;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDERS_CREATED;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_COMMAND_NOT_VALID;
 import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_CREATED;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_CREATED_SUCCESSFULLY;
 import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_SAVED;
-import static com.food.ordering.system.order.service.domain.utils.MessageConstants.RESTAURANT_NOT_FOUND;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
 public class OrderCreateHelper {
 
+    private static final MessageLogger log = MessageLogger.getLogger(OrderCreateHelper.class);
+
     private final OrderDomainService orderDomainService;
     private final OrderRepository orderRepository;
     private final OrderDataMapper orderDataMapper;
-    private final CustomerRepository customerRepository;
-    private final RestaurantRepository restaurantRepository;
+    private final OrderCreateChecker orderCreateChecker;
+    private final OrderOutboxHelper orderOutboxHelper;
+    private final OrderSagaHelper orderSagaHelper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Validator validator;
+    private final OrderMetrics orderMetrics;
 
+    /**
+     * The payment request is stored in the outbox within the order transaction, together
+     * with the start of its saga. It is published to the broker by the outbox scheduler. The created event is
+     * handed to the local listeners, like the tracking cache, after commit.
+     * Customer and restaurant are checked before by {@link OrderCreateChecker}
+     */
     @Transactional
-    public OrderCreatedEvent persistOrder(CreateOrderCommand createOrderCommand) {
-        checkCustomer(createOrderCommand.getCustomerId());
-        var restaurant = checkRestaurant(createOrderCommand);
-        var order = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
-        var orderCreatedEvent = orderDomainService.validateAndInitiateOrder(order, restaurant);
-        var orderSaved = saveOrder(order);
-        log.info(String.format(ORDER_CREATED, orderSaved.getId().getValue()));
+    public OrderCreatedEvent persistOrder(CreateOrderCommand createOrderCommand, Restaurant restaurant) {
+        var orderCreatedEvent = initiateOrder(createOrderCommand, restaurant);
+        var orderSaved = saveOrder(orderCreatedEvent.getOrder());
+        var sagaId = UUID.randomUUID();
+        orderOutboxHelper.savePaymentOutboxMessage(
+                orderDataMapper.orderCreatedEventToOrderPaymentEventPayload(orderCreatedEvent), sagaId);
+        orderSagaHelper.saveStartedSagas(List.of(orderSagaHelper.sagaStep(sagaId,
+                orderCreatedEvent.getOrder(), orderCreatedEvent.getCreatedAt())));
+        applicationEventPublisher.publishEvent(orderCreatedEvent);
+        log.info(ORDER_CREATED, orderSaved.getId().getValue());
         return orderCreatedEvent;
     }
 
-    private Restaurant checkRestaurant(CreateOrderCommand createOrderCommand) {
-        Optional<Restaurant> restaurant = restaurantRepository
-                .findRestaurant(orderDataMapper.createOrderCommandToRestaurant(createOrderCommand));
-        if (restaurant.isEmpty()) {
-            String errorMessage = String.format(RESTAURANT_NOT_FOUND, createOrderCommand.getRestaurantId());
-            log.warn(errorMessage);
-            throw new OrderDomainException(errorMessage);
+    /**
+     * A command failing validation is reported in its result and does not stop the others.
+     * Orders, their items and addresses are inserted with one batch per table, and the
+     * payment requests and their sagas are saved in one batch as well
+     */
+    @Transactional
+    public List<CreateOrderResult> persistOrders(List<CreateOrderCommand> createOrderCommands) {
+        List<CreateOrderResult> results = new ArrayList<>(createOrderCommands.size());
+        List<OrderCreatedEvent> orderCreatedEvents = new ArrayList<>(createOrderCommands.size());
+        Set<UUID> checkedCustomers = new HashSet<>();
+        for (int index = 0; index < createOrderCommands.size(); index++) {
+            var createOrderCommand = createOrderCommands.get(index);
+            try {
+                validateCommand(createOrderCommand);
+                if (!checkedCustomers.contains(createOrderCommand.getCustomerId())) {
+                    orderCreateChecker.checkCustomer(createOrderCommand.getCustomerId());
+                    checkedCustomers.add(createOrderCommand.getCustomerId());
+                }
+                var orderCreatedEvent = initiateOrder(createOrderCommand,
+                        orderCreateChecker.checkRestaurant(createOrderCommand));
+                orderCreatedEvents.add(orderCreatedEvent);
+                results.add(orderDataMapper.orderToCreateOrderResult(index,
+                        orderCreatedEvent.getOrder(), ORDER_CREATED_SUCCESSFULLY));
+            } catch (OrderDomainException e) {
+                results.add(orderDataMapper.createOrderCommandToFailedResult(index, e.getMessage()));
+            }
         }
+        if (!orderCreatedEvents.isEmpty()) {
+            long start = System.nanoTime();
+            try {
+                orderRepository.saveAll(orderCreatedEvents.stream().map(OrderEvent::getOrder).toList());
+            } finally {
+                orderMetrics.recordSave(start);
+            }
+            savePaymentRequests(orderCreatedEvents);
+            orderCreatedEvents.forEach(applicationEventPublisher::publishEvent);
+        }
+        log.info(ORDERS_CREATED, orderCreatedEvents.size(), createOrderCommands.size());
+        return results;
+    }
 
-        return restaurant.get();
+    /**
+     * Each payment request starts its own saga
+     */
+    private void savePaymentRequests(List<OrderCreatedEvent> orderCreatedEvents) {
+        List<OrderOutboxMessage> paymentOutboxMessages = new ArrayList<>(orderCreatedEvents.size());
+        List<OrderSaga> orderSagas = new ArrayList<>(orderCreatedEvents.size());
+        for (OrderCreatedEvent orderCreatedEvent : orderCreatedEvents) {
+            var sagaId = UUID.randomUUID();
+            paymentOutboxMessages.add(orderOutboxHelper.paymentOutboxMessage(
+                    orderDataMapper.orderCreatedEventToOrderPaymentEventPayload(orderCreatedEvent), sagaId));
+            orderSagas.add(orderSagaHelper.sagaStep(sagaId,
+                    orderCreatedEvent.getOrder(), orderCreatedEvent.getCreatedAt()));
+        }
+        orderOutboxHelper.saveOutboxMessages(paymentOutboxMessages);
+        orderSagaHelper.saveStartedSagas(orderSagas);
     }
 
-    private void checkCustomer(UUID customerId) {
-        Optional<Customer> customer = customerRepository.findCustomer(customerId);
-        if (customer.isEmpty()) {
-            String errorMessage = String.format(CUSTOMER_NOT_FOUND, customerId);
-            log.warn(errorMessage);
-            throw new OrderDomainException(errorMessage);
+    private OrderCreatedEvent initiateOrder(CreateOrderCommand createOrderCommand, Restaurant restaurant) {
+        var order = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+        long start = System.nanoTime();
+        try {
+            return orderDomainService.validateAndInitiateOrder(order, restaurant);
+        } finally {
+            orderMetrics.recordValidation(start);
+        }
+    }
+
+    private void validateCommand(CreateOrderCommand createOrderCommand) {
+        Set<ConstraintViolation<CreateOrderCommand>> violations = validator.validate(createOrderCommand);
+        if (!violations.isEmpty()) {
+            throw new OrderDomainException(String.format(ORDER_COMMAND_NOT_VALID, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .toList()));
         }
     }
 
     private Order saveOrder(Order order) {
-        var orderStored = orderRepository.save(order);
+        long start = System.nanoTime();
+        Order orderStored;
+        try {
+            orderStored = orderRepository.save(order);
+        } finally {
+            orderMetrics.recordSave(start);
+        }
         if (orderStored == null) {
             log.warn(ERROR_SAVING_ORDER);
             throw new OrderDomainException(ERROR_SAVING_ORDER);
         }
-        log.info(String.format(ORDER_SAVED, orderStored.getId().getValue()));
+        log.info(ORDER_SAVED, orderStored.getId().getValue());
         return orderStored;
     }
 
@@ -0,0 +1,52 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.order.service.domain.config.OrderExportConfigData;
+import com.food.ordering.system.order.service.domain.dto.export.ExportOrdersQuery;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExport;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.export.CsvOrderExportWriter;
+import com.food.ordering.system.order.service.domain.export.NdjsonOrderExportWriter;
+import com.food.ordering.system.order.service.domain.export.OrderExportWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_EXPORT_RANGE_NOT_VALID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderExportCommandHandler {
+
+    private final OrderExportHelper orderExportHelper;
+    private final OrderExportConfigData orderExportConfigData;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * The range is checked here, before the caller opens its stream, the orders are only
+     * read by the returned export
+     */
+    public OrderExport exportOrders(ExportOrdersQuery exportOrdersQuery) {
+        if (!exportOrdersQuery.getCreatedFrom().isBefore(exportOrdersQuery.getCreatedTo()) ||
+                exportOrdersQuery.getCreatedFrom().plusDays(orderExportConfigData.getMaxRangeDays())
+                        .isBefore(exportOrdersQuery.getCreatedTo())) {
+            String message = String.format(ORDER_EXPORT_RANGE_NOT_VALID, orderExportConfigData.getMaxRangeDays());
+            log.warn(message);
+            throw new OrderDomainException(message);
+        }
+        return outputStream -> orderExportHelper.writeOrders(exportOrdersQuery,
+                exportWriter(exportOrdersQuery, outputStream));
+    }
+
+    private OrderExportWriter exportWriter(ExportOrdersQuery exportOrdersQuery, OutputStream outputStream)
+            throws IOException {
+        return switch (exportOrdersQuery.getFormat()) {
+            case NDJSON -> new NdjsonOrderExportWriter(objectMapper, outputStream);
+            case CSV -> new CsvOrderExportWriter(outputStream);
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.dto.export.ExportOrdersQuery;
+import com.food.ordering.system.order.service.domain.export.OrderExportWriter;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.utils.MessageLogger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDERS_EXPORTED;
+
+@Component
+@RequiredArgsConstructor
+public class OrderExportHelper {
+
+    private static final MessageLogger log = MessageLogger.getLogger(OrderExportHelper.class);
+
+    private final OrderRepository orderRepository;
+
+    /**
+     * The cursor only streams the rows inside a transaction, every order is written as soon
+     * as its rows are read so memory does not grow with the number of orders
+     *
+     * @return number of orders written
+     */
+    @Transactional(readOnly = true)
+    public long writeOrders(ExportOrdersQuery exportOrdersQuery, OrderExportWriter orderExportWriter)
+            throws IOException {
+        RestaurantId restaurantId = exportOrdersQuery.getRestaurantId() == null ?
+                null : new RestaurantId(exportOrdersQuery.getRestaurantId());
+        long exported;
+        try {
+            exported = orderRepository.forEachExportedOrder(restaurantId, exportOrdersQuery.getCreatedFrom(),
+                    exportOrdersQuery.getCreatedTo(), orderExportRecord -> {
+                        try {
+                            orderExportWriter.write(orderExportRecord);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        orderExportWriter.finish();
+        log.info(ORDERS_EXPORTED, exported, exportOrdersQuery.getCreatedFrom(),
+                exportOrdersQuery.getCreatedTo(), exportOrdersQuery.getRestaurantId());
+        return exported;
+    }
+}
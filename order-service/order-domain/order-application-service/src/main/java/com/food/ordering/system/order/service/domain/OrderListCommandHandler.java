@@ -0,0 +1,42 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.config.OrderListConfigData;
+import com.food.ordering.system.order.service.domain.dto.list.ListOrdersQuery;
+import com.food.ordering.system.order.service.domain.dto.list.OrderCursor;
+import com.food.ordering.system.order.service.domain.dto.list.OrderListing;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_LIST_OWNER_NOT_VALID;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_LIST_PAGE_SIZE_NOT_VALID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderListCommandHandler {
+
+    private final OrderListHelper orderListHelper;
+    private final OrderListConfigData orderListConfigData;
+
+    /**
+     * The query and its cursor are checked here, before the caller starts its response,
+     * the orders are only read by the returned listing
+     */
+    public OrderListing listOrders(ListOrdersQuery listOrdersQuery) {
+        if ((listOrdersQuery.getCustomerId() == null) == (listOrdersQuery.getRestaurantId() == null)) {
+            log.warn(ORDER_LIST_OWNER_NOT_VALID);
+            throw new OrderDomainException(ORDER_LIST_OWNER_NOT_VALID);
+        }
+        int pageSize = listOrdersQuery.getPageSize() == null ?
+                orderListConfigData.getDefaultPageSize() : listOrdersQuery.getPageSize();
+        if (pageSize < 1 || pageSize > orderListConfigData.getMaxPageSize()) {
+            String message = String.format(ORDER_LIST_PAGE_SIZE_NOT_VALID, orderListConfigData.getMaxPageSize());
+            log.warn(message);
+            throw new OrderDomainException(message);
+        }
+        OrderCursor after = listOrdersQuery.getCursor() == null ? null : OrderCursor.decode(listOrdersQuery.getCursor());
+        return orderConsumer -> orderListHelper.forEachOrder(listOrdersQuery, after, pageSize, orderConsumer);
+    }
+}
@@ -0,0 +1,55 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.dto.list.ListOrdersQuery;
+import com.food.ordering.system.order.service.domain.dto.list.OrderCursor;
+import com.food.ordering.system.order.service.domain.dto.list.OrderSummary;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Component
+@RequiredArgsConstructor
+public class OrderListHelper {
+
+    private final OrderRepository orderRepository;
+
+    /**
+     * One order more than the page is read, it is not handed to the consumer and only tells
+     * there is a next page. The rows are read while the consumer writes them out
+     *
+     * @return cursor of the next page, null on the last page
+     */
+    @Transactional(readOnly = true)
+    public String forEachOrder(ListOrdersQuery listOrdersQuery, OrderCursor after, int pageSize,
+                               Consumer<OrderSummary> orderConsumer) {
+        try (Stream<OrderSummary> orderSummaries = findOrderSummaries(listOrdersQuery, after, pageSize + 1)) {
+            Iterator<OrderSummary> iterator = orderSummaries.iterator();
+            OrderSummary last = null;
+            for (int listed = 0; iterator.hasNext(); listed++) {
+                OrderSummary orderSummary = iterator.next();
+                if (listed == pageSize) {
+                    return new OrderCursor(last.getCreatedAt(), last.getOrderId()).encode();
+                }
+                orderConsumer.accept(orderSummary);
+                last = orderSummary;
+            }
+            return null;
+        }
+    }
+
+    private Stream<OrderSummary> findOrderSummaries(ListOrdersQuery listOrdersQuery, OrderCursor after, int limit) {
+        if (listOrdersQuery.getCustomerId() != null) {
+            return orderRepository.findCustomerOrderSummaries(new CustomerId(listOrdersQuery.getCustomerId()),
+                    listOrdersQuery.getOrderStatus(), after, limit);
+        }
+        return orderRepository.findRestaurantOrderSummaries(new RestaurantId(listOrdersQuery.getRestaurantId()),
+                listOrdersQuery.getOrderStatus(), after, limit);
+    }
+}
@@ -1,5 +1,6 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.order.service.domain.cache.OrderTrackingCache;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
@@ -9,7 +10,6 @@ import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import static com.food.ordering.system.order.service.domain.utils.MessageConstants.TRACKING_ORDER_NOT_FOUND;
 
@@ -20,13 +20,21 @@ public class OrderTrackCommandHandler {
 
     private final OrderDataMapper orderDataMapper;
     private final OrderRepository orderRepository;
+    private final OrderTrackingCache orderTrackingCache;
 
-    @Transactional(readOnly = true)
+    /**
+     * Not transactional, a cache hit must not take a connection. The single lookup
+     * on a miss runs in the read only transaction of the repository
+     */
     public TrackOrderResponse trackOrder(TrackOrderQuery trackOrderQuery) {
+        return orderTrackingCache.get(new TrackingId(trackOrderQuery.getOrderTrackingId()), this::findTrackOrder);
+    }
+
+    private TrackOrderResponse findTrackOrder(TrackingId trackingId) {
         var trackOrder = orderRepository
-                .findByTrackingId(new TrackingId(trackOrderQuery.getOrderTrackingId()))
+                .findByTrackingId(trackingId)
                 .orElseThrow(() -> {
-                    String message = String.format(TRACKING_ORDER_NOT_FOUND, trackOrderQuery.getOrderTrackingId());
+                    String message = String.format(TRACKING_ORDER_NOT_FOUND, trackingId.getValue());
                     log.warn(message);
                     throw new OrderNotFoundException(message);
                 });
@@ -0,0 +1,63 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.saga.AppliedOrderResponse;
+import com.food.ordering.system.order.service.domain.saga.OrderResponseBatchProcessor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentResponseHandler {
+
+    private final OrderDomainService orderDomainService;
+    private final OrderResponseBatchProcessor orderResponseBatchProcessor;
+    private final OrderDataMapper orderDataMapper;
+    private final OrderOutboxHelper orderOutboxHelper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * Completed payments pay the order and its restaurant approval request is saved to the
+     * outbox in the same saga, cancelled and failed payments cancel the order. The transaction
+     * commits before the listener returns, so the offsets are committed after the batch is stored
+     */
+    @Transactional
+    public void handle(List<PaymentResponse> paymentResponses) {
+        var appliedResponses = orderResponseBatchProcessor.process(paymentResponses, this::applyPaymentResponse);
+        List<OrderOutboxMessage> approvalOutboxMessages = new ArrayList<>();
+        for (AppliedOrderResponse<PaymentResponse> appliedResponse : appliedResponses) {
+            if (appliedResponse.getOrderEvent() instanceof OrderPaidEvent orderPaidEvent) {
+                approvalOutboxMessages.add(orderOutboxHelper.approvalOutboxMessage(
+                        orderDataMapper.orderPaidEventToOrderApprovalEventPayload(orderPaidEvent),
+                        UUID.fromString(appliedResponse.getResponse().getSagaId())));
+            }
+        }
+        if (!approvalOutboxMessages.isEmpty()) {
+            orderOutboxHelper.saveOutboxMessages(approvalOutboxMessages);
+        }
+        appliedResponses.forEach(appliedResponse ->
+                applicationEventPublisher.publishEvent(appliedResponse.getOrderEvent()));
+    }
+
+    private OrderEvent applyPaymentResponse(Order order, PaymentResponse paymentResponse) {
+        if (paymentResponse.getPaymentStatus() == PaymentStatus.COMPLETED) {
+            return orderDomainService.payOrder(order);
+        }
+        return orderDomainService.cancelOrder(order, paymentResponse.getFailureMessages());
+    }
+}
@@ -2,22 +2,35 @@ package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+
 @Slf4j
 @Validated
 @Service
+@Observed(name = "order.application")
+@RequiredArgsConstructor
 public class PaymentResponseMessageListenerImpl implements PaymentResponseMessageListener {
 
+    private final PaymentResponseHandler paymentResponseHandler;
+
     @Override
     public void paymentCompleted(PaymentResponse paymentResponse) {
-
+        paymentResponseHandler.handle(List.of(paymentResponse));
     }
 
     @Override
     public void paymentCancelled(PaymentResponse paymentResponse) {
+        paymentResponseHandler.handle(List.of(paymentResponse));
+    }
 
+    @Override
+    public void paymentResponsesReceived(List<PaymentResponse> paymentResponses) {
+        paymentResponseHandler.handle(paymentResponses);
     }
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.event.OrderEvent;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.saga.AppliedOrderResponse;
+import com.food.ordering.system.order.service.domain.saga.OrderResponseBatchProcessor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantApprovalResponseHandler {
+
+    private final OrderDomainService orderDomainService;
+    private final OrderResponseBatchProcessor orderResponseBatchProcessor;
+    private final OrderDataMapper orderDataMapper;
+    private final OrderOutboxHelper orderOutboxHelper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * Approved orders are done, rejected orders start cancelling and their payment cancel
+     * requests are saved to the outbox with one insert batch, the outbox scheduler publishes
+     * them in batches as well. The transaction commits before the listener returns, so the
+     * offsets are committed after the batch is stored
+     */
+    @Transactional
+    public void handle(List<RestaurantApprovalResponse> restaurantApprovalResponses) {
+        var appliedResponses = orderResponseBatchProcessor.process(restaurantApprovalResponses,
+                this::applyApprovalResponse);
+        List<OrderOutboxMessage> paymentOutboxMessages = new ArrayList<>();
+        for (AppliedOrderResponse<RestaurantApprovalResponse> appliedResponse : appliedResponses) {
+            if (appliedResponse.getOrderEvent() instanceof OrderCancelledEvent orderCancelledEvent) {
+                paymentOutboxMessages.add(orderOutboxHelper.paymentOutboxMessage(
+                        orderDataMapper.orderCancelledEventToOrderPaymentEventPayload(orderCancelledEvent),
+                        UUID.fromString(appliedResponse.getResponse().getSagaId())));
+            }
+        }
+        if (!paymentOutboxMessages.isEmpty()) {
+            orderOutboxHelper.saveOutboxMessages(paymentOutboxMessages);
+        }
+        appliedResponses.forEach(appliedResponse ->
+                applicationEventPublisher.publishEvent(appliedResponse.getOrderEvent()));
+    }
+
+    private OrderEvent applyApprovalResponse(Order order, RestaurantApprovalResponse restaurantApprovalResponse) {
+        if (restaurantApprovalResponse.getOrderApprovalStatus() == OrderApprovalStatus.APPROVED) {
+            return orderDomainService.approveOrder(order);
+        }
+        return orderDomainService.cancelOrderPayment(order, restaurantApprovalResponse.getFailureMessages());
+    }
+}
@@ -0,0 +1,36 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.List;
+
+@Slf4j
+@Validated
+@Service
+@Observed(name = "order.application")
+@RequiredArgsConstructor
+public class RestaurantApprovalResponseMessageListenerImpl implements RestaurantApprovalResponseMessageListener {
+
+    private final RestaurantApprovalResponseHandler restaurantApprovalResponseHandler;
+
+    @Override
+    public void orderApproved(RestaurantApprovalResponse restaurantApprovalResponse) {
+        restaurantApprovalResponseHandler.handle(List.of(restaurantApprovalResponse));
+    }
+
+    @Override
+    public void orderRejected(RestaurantApprovalResponse restaurantApprovalResponse) {
+        restaurantApprovalResponseHandler.handle(List.of(restaurantApprovalResponse));
+    }
+
+    @Override
+    public void approvalResponsesReceived(List<RestaurantApprovalResponse> restaurantApprovalResponses) {
+        restaurantApprovalResponseHandler.handle(restaurantApprovalResponses);
+    }
+}
@@ -0,0 +1,111 @@
+package com.food.ordering.system.order.service.domain.cache;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderTrackingCacheConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.event.OrderEvent;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.utils.MessageLogger;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_TRACKING_CACHE_INVALIDATED;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_TRACKING_CACHE_UPDATED;
+
+/**
+ * Track order responses by tracking id. Entries are replaced with the new status once the
+ * transaction that changed the order commits, so polling clients see it without a query.
+ * The order of a cancel event only has the failure messages added by that change, so the
+ * entry of a cancelling or cancelled order is dropped and read again with all its messages
+ */
+@Component
+public class OrderTrackingCache implements MeterBinder {
+
+    private static final MessageLogger log = MessageLogger.getLogger(OrderTrackingCache.class);
+
+    private final Cache<TrackingId, TrackOrderResponse> cache;
+    private final OrderDataMapper orderDataMapper;
+    /**
+     * Counts the dropped entries, a load that overlaps a drop may have read the order before
+     * the change and is not kept
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public OrderTrackingCache(OrderTrackingCacheConfigData configData, OrderDataMapper orderDataMapper) {
+        this.orderDataMapper = orderDataMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(configData.getMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(configData.getExpireAfterWriteSeconds()))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Loader exceptions are not cached, an unknown tracking id is looked up again on the next call.
+     * The loader runs outside of the cache, a query inside its compute lock would pin a virtual
+     * thread. A response put by an order event while loading is newer and is kept. The
+     * invalidations are checked after the put, an entry dropped before it is removed again
+     */
+    public TrackOrderResponse get(TrackingId trackingId, Function<TrackingId, TrackOrderResponse> loader) {
+        var cached = cache.getIfPresent(trackingId);
+        if (cached != null) {
+            return cached;
+        }
+        long invalidationsBefore = invalidations.get();
+        var loaded = loader.apply(trackingId);
+        if (loaded == null) {
+            return null;
+        }
+        var current = cache.asMap().putIfAbsent(trackingId, loaded);
+        if (current != null) {
+            return current;
+        }
+        if (invalidations.get() != invalidationsBefore) {
+            cache.asMap().remove(trackingId, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Falls back to the publishing thread when there is no transaction, the event is then
+     * published after the order change is already stored
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderEvent(OrderEvent orderEvent) {
+        var order = orderEvent.getOrder();
+        if (order.getOrderStatus() == OrderStatus.CANCELLING || order.getOrderStatus() == OrderStatus.CANCELLED) {
+            invalidations.incrementAndGet();
+            cache.invalidate(order.getTrackingId());
+            log.debug(ORDER_TRACKING_CACHE_INVALIDATED, order.getTrackingId().getValue(), order.getOrderStatus());
+            return;
+        }
+        var response = orderDataMapper.orderToTrackOrderResponse(order);
+        cache.put(new TrackingId(response.getOrderTrackingId()), response);
+        log.debug(ORDER_TRACKING_CACHE_UPDATED,
+                response.getOrderTrackingId(), response.getOrderStatus());
+    }
+
+    /**
+     * Hit, miss and eviction counters since startup
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        new CaffeineCacheMetrics<>(cache, "order-tracking", Tags.empty()).bindTo(meterRegistry);
+    }
+}
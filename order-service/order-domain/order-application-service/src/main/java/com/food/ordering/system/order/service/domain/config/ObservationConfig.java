@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * <p> Observes the classes and methods annotated with @Observed, the application services and
+ * the repository adapters. With a tracer bridge on the classpath every observation is a span,
+ * child of the observation current when it starts <p/>
+ */
+@Configuration
+public class ObservationConfig {
+
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+}
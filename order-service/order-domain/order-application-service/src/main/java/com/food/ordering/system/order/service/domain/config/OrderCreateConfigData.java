@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * <p> checkThreads run the customer checks of concurrent create order requests, up to
+ * checkQueueCapacity more wait for a thread. When the queue is full the request is rejected
+ * instead of running the check without its timeout. A create orders batch can have up to maxBatchSize commands <p/>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-create-config")
+public class OrderCreateConfigData {
+    private Integer checkThreads = 16;
+    private Integer checkQueueCapacity = 256;
+    private Long checkTimeoutMs = 2000L;
+    private Integer maxBatchSize = 100;
+}
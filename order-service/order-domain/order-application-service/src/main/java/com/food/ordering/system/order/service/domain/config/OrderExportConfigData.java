@@ -0,0 +1,17 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * <p> Rows fetched per round trip by the export cursor, and the longest creation date range
+ * an export can ask for <p/>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-export-config")
+public class OrderExportConfigData {
+    private Integer fetchSize = 500;
+    private Integer maxRangeDays = 31;
+}
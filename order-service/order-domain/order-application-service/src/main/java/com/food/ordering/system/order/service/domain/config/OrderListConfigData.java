@@ -0,0 +1,17 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * <p> Orders listed per page when the query does not give a page size, and the largest page
+ * a query can ask for <p/>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-list-config")
+public class OrderListConfigData {
+    private Integer defaultPageSize = 20;
+    private Integer maxPageSize = 100;
+}
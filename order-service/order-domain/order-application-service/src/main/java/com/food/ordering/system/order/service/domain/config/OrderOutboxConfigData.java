@@ -0,0 +1,28 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * <p> batchSize rows are claimed per transaction, parallelism transactions drain the outbox at
+ * the same time on every node. Claimed rows are leased for leaseMs and skipped by the other
+ * drainers until then, so leaseMs must be longer than sendTimeoutMs plus the producer delivery
+ * timeout, the longest a send can take to complete. A failed message is published again after
+ * retryBackoffMs doubled on every attempt up to retryMaxBackoffMs, with jitter, and is FAILED
+ * after maxAttempts. FAILED messages are restarted failedRestartMinutes after their last attempt <p/>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-outbox-config")
+public class OrderOutboxConfigData {
+    private Integer batchSize = 100;
+    private Integer parallelism = 2;
+    private Integer maxAttempts = 5;
+    private Long sendTimeoutMs = 10000L;
+    private Long leaseMs = 300000L;
+    private Long retryBackoffMs = 1000L;
+    private Long retryMaxBackoffMs = 60000L;
+    private Long failedRestartMinutes = 30L;
+    private Long completedRetentionMinutes = 1440L;
+}
@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * <p> The orders of a polled response batch are split in up to parallelism slices of at least
+ * minOrdersPerSlice orders, smaller batches are applied on the listener thread <p/>
+ * <p> Orders changed by another transaction are applied again up to conflictMaxAttempts times <p/>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-response-config")
+public class OrderResponseConfigData {
+    private Integer parallelism = 4;
+    private Integer minOrdersPerSlice = 64;
+    private Integer conflictMaxAttempts = 3;
+}
@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * <p> Paid orders not approved by the restaurant in approvalTimeoutMinutes are cancelled. Each
+ * sweep claims up to sweepMaxBatches batches of sweepBatchSize sagas, one transaction per batch <p/>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-saga-config")
+public class OrderSagaConfigData {
+    private Long approvalTimeoutMinutes = 30L;
+    private Integer sweepBatchSize = 100;
+    private Integer sweepMaxBatches = 20;
+}
@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * <p> Topics of the requests the order service publishes and of the responses it listens to <p/>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service")
+public class OrderServiceConfigData {
+    private String paymentRequestTopicName;
+    private String paymentResponseTopicName;
+    private String restaurantApprovalRequestTopicName;
+    private String restaurantApprovalResponseTopicName;
+}
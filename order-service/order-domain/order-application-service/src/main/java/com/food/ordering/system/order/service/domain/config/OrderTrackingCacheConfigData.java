@@ -0,0 +1,17 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * <p> Entries are updated by the order events of this node, expireAfterWriteSeconds bounds
+ * how long a status changed by another node can be served <p/>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-tracking-cache-config")
+public class OrderTrackingCacheConfigData {
+    private Long maximumSize = 100000L;
+    private Long expireAfterWriteSeconds = 10L;
+}
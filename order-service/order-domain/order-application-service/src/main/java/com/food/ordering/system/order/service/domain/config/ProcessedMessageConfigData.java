@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * <p> Up to cacheMaximumSize recently processed message ids are kept in memory in front of the
+ * table. Rows older than retentionHours are deleted, it has to be longer than the time a
+ * message can take to be delivered again <p/>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "processed-message-config")
+public class ProcessedMessageConfigData {
+    private Long cacheMaximumSize = 100000L;
+    private Long retentionHours = 168L;
+}
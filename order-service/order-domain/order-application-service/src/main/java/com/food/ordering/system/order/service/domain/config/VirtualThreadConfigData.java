@@ -0,0 +1,17 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * <p> When enabled, the web requests, the async and scheduled tasks, the Kafka listeners and
+ * the blocking executors of the service run on virtual threads instead of platform thread
+ * pools. The response batch executor is CPU bound and keeps its platform threads <p/>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "virtual-thread-config")
+public class VirtualThreadConfigData {
+    private Boolean enabled = false;
+}
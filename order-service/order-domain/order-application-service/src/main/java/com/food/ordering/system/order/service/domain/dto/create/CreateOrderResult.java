@@ -0,0 +1,26 @@
+package com.food.ordering.system.order.service.domain.dto.create;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one command of a batch, index is the position of the command in the request.
+ * Tracking id and status are only set when the order was created
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class CreateOrderResult {
+
+    int index;
+    boolean created;
+    UUID orderTrackingId;
+    OrderStatus orderStatus;
+    @NotNull
+    String message;
+}
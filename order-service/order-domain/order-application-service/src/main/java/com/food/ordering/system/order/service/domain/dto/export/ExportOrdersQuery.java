@@ -0,0 +1,26 @@
+package com.food.ordering.system.order.service.domain.dto.export;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * Orders created from createdFrom included to createdTo excluded, of every restaurant
+ * when restaurantId is not given
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ExportOrdersQuery {
+    @NotNull
+    private final ZonedDateTime createdFrom;
+    @NotNull
+    private final ZonedDateTime createdTo;
+    private final UUID restaurantId;
+    @NotNull
+    private final OrderExportFormat format;
+}
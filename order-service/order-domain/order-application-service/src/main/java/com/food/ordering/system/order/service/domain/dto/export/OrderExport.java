@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.domain.dto.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A validated export, only read once the caller has the stream to write it to
+ */
+@FunctionalInterface
+public interface OrderExport {
+
+    /**
+     * Reads the orders in a read only transaction writing every order to the stream as it is
+     * read. The stream is flushed, not closed, so it can be a response or a file
+     *
+     * @return number of orders written
+     */
+    long writeTo(OutputStream outputStream) throws IOException;
+}
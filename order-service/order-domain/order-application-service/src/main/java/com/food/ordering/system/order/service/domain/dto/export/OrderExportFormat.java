@@ -0,0 +1,8 @@
+package com.food.ordering.system.order.service.domain.dto.export;
+
+/**
+ * NDJSON writes one order per line with its items nested, CSV one line per item repeating the order
+ */
+public enum OrderExportFormat {
+    NDJSON, CSV
+}
@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.domain.dto.export;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderExportItem {
+    private final Long itemId;
+    private final UUID productId;
+    private final BigDecimal price;
+    private final Integer quantity;
+    private final BigDecimal subTotal;
+}
@@ -0,0 +1,31 @@
+package com.food.ordering.system.order.service.domain.dto.export;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Order as exported, flat columns of the order and its address with the items
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderExportRecord {
+    private final UUID orderId;
+    private final UUID trackingId;
+    private final UUID customerId;
+    private final UUID restaurantId;
+    private final BigDecimal price;
+    private final OrderStatus orderStatus;
+    private final ZonedDateTime createdAt;
+    private final String street;
+    private final String postalCode;
+    private final String city;
+    private final List<OrderExportItem> items;
+}
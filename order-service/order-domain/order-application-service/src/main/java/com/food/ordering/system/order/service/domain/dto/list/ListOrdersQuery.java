@@ -0,0 +1,25 @@
+package com.food.ordering.system.order.service.domain.dto.list;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Either customerId or restaurantId is given. Without a cursor the first page is listed,
+ * without a page size the configured default is used
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ListOrdersQuery {
+    private final UUID customerId;
+    private final UUID restaurantId;
+    @NotNull
+    private final OrderStatus orderStatus;
+    private final String cursor;
+    private final Integer pageSize;
+}
@@ -0,0 +1,45 @@
+package com.food.ordering.system.order.service.domain.dto.list;
+
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_LIST_CURSOR_NOT_VALID;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ZONE_DATETIME_UTC;
+
+/**
+ * Position of the last listed order, the next page starts right after its creation date and id.
+ * Encoded as an opaque url safe string keeping the creation date to the nanosecond
+ */
+@Getter
+@AllArgsConstructor
+public class OrderCursor {
+    private final ZonedDateTime createdAt;
+    private final UUID orderId;
+
+    public String encode() {
+        Instant instant = createdAt.toInstant();
+        String cursor = instant.getEpochSecond() + ":" + instant.getNano() + ":" + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException(cursor);
+            }
+            Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new OrderCursor(createdAt.atZone(ZoneId.of(ZONE_DATETIME_UTC)), UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new OrderDomainException(String.format(ORDER_LIST_CURSOR_NOT_VALID, cursor), e);
+        }
+    }
+}
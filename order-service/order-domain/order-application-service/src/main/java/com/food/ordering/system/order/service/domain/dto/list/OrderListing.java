@@ -0,0 +1,17 @@
+package com.food.ordering.system.order.service.domain.dto.list;
+
+import java.util.function.Consumer;
+
+/**
+ * A validated page of orders, only read once the caller is ready to write them out
+ */
+@FunctionalInterface
+public interface OrderListing {
+
+    /**
+     * Reads the page in a read only transaction handing every order to the consumer as it is read
+     *
+     * @return cursor of the next page, null on the last page
+     */
+    String forEachOrder(Consumer<OrderSummary> orderConsumer);
+}
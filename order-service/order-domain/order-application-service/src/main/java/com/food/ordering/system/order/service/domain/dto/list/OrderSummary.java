@@ -0,0 +1,26 @@
+package com.food.ordering.system.order.service.domain.dto.list;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * Order as listed, read from the order row alone without its items and address
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderSummary {
+    private final UUID orderId;
+    private final UUID orderTrackingId;
+    private final UUID customerId;
+    private final UUID restaurantId;
+    private final BigDecimal price;
+    private final OrderStatus orderStatus;
+    private final ZonedDateTime createdAt;
+}
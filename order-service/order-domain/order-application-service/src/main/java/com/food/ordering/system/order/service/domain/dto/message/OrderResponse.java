@@ -0,0 +1,17 @@
+package com.food.ordering.system.order.service.domain.dto.message;
+
+import java.util.List;
+
+/**
+ * Fields shared by the saga responses received for an order
+ */
+public interface OrderResponse {
+
+    String getId();
+
+    String getSagaId();
+
+    String getOrderId();
+
+    List<String> getFailureMessages();
+}
@@ -12,7 +12,7 @@ import java.util.List;
 @Getter
 @Builder
 @AllArgsConstructor
-public class PaymentResponse {
+public class PaymentResponse implements OrderResponse {
     private String id;
     private String sagaId;
     private String orderId;
@@ -11,12 +11,12 @@ import java.util.List;
 @Getter
 @Builder
 @AllArgsConstructor
-public class RestaurantApprovalResponse {
+public class RestaurantApprovalResponse implements OrderResponse {
     private String id;
     private String sagaId;
     private String orderId;
     private String restaurantId;
     private Instant createdAt;
-    private OrderApprovalStatus paymentStatus;
+    private OrderApprovalStatus orderApprovalStatus;
     private List<String> failureMessages;
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.food.ordering.system.order.service.domain.export;
+
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportItem;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportRecord;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * RFC 4180 lines, one per item with the order columns repeated. An order without items is
+ * written on one line with empty item columns
+ */
+public class CsvOrderExportWriter implements OrderExportWriter {
+
+    private static final String HEADER = "order_id,tracking_id,customer_id,restaurant_id,price,order_status," +
+            "created_at,street,postal_code,city,item_id,product_id,item_price,quantity,sub_total\r\n";
+
+    private final Writer writer;
+    private boolean headerWritten;
+
+    public CsvOrderExportWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void write(OrderExportRecord orderExportRecord) throws IOException {
+        writeHeader();
+        if (orderExportRecord.getItems().isEmpty()) {
+            writeOrder(orderExportRecord);
+            writer.write(",,,,\r\n");
+            return;
+        }
+        for (OrderExportItem item : orderExportRecord.getItems()) {
+            writeOrder(orderExportRecord);
+            writeField(item.getItemId());
+            writeField(item.getProductId());
+            writeField(item.getPrice());
+            writeField(item.getQuantity());
+            writeValue(item.getSubTotal());
+            writer.write("\r\n");
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writeHeader();
+        writer.flush();
+    }
+
+    private void writeHeader() throws IOException {
+        if (!headerWritten) {
+            writer.write(HEADER);
+            headerWritten = true;
+        }
+    }
+
+    private void writeOrder(OrderExportRecord orderExportRecord) throws IOException {
+        writeField(orderExportRecord.getOrderId());
+        writeField(orderExportRecord.getTrackingId());
+        writeField(orderExportRecord.getCustomerId());
+        writeField(orderExportRecord.getRestaurantId());
+        writeField(orderExportRecord.getPrice());
+        writeField(orderExportRecord.getOrderStatus());
+        writeField(orderExportRecord.getCreatedAt() == null ? null :
+                DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(orderExportRecord.getCreatedAt()));
+        writeField(orderExportRecord.getStreet());
+        writeField(orderExportRecord.getPostalCode());
+        writeField(orderExportRecord.getCity());
+    }
+
+    private void writeField(Object value) throws IOException {
+        writeValue(value);
+        writer.write(',');
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,29 @@
+package com.food.ordering.system.order.service.domain.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportRecord;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class NdjsonOrderExportWriter implements OrderExportWriter {
+
+    private final JsonGenerator generator;
+
+    public NdjsonOrderExportWriter(ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+        this.generator = objectMapper.createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void write(OrderExportRecord orderExportRecord) throws IOException {
+        generator.writeObject(orderExportRecord);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.flush();
+    }
+}
@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.domain.export;
+
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportRecord;
+
+import java.io.IOException;
+
+/**
+ * Writes exported orders one after the other to a stream, buffering at most a few orders
+ */
+public interface OrderExportWriter {
+
+    void write(OrderExportRecord orderExportRecord) throws IOException;
+
+    /**
+     * Flushes what is buffered, the stream is left open to its owner
+     */
+    void finish() throws IOException;
+}
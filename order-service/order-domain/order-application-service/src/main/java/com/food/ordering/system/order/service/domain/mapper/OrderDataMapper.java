@@ -2,35 +2,35 @@ package com.food.ordering.system.order.service.domain.mapper;
 
 import com.food.ordering.system.domain.valueobject.CustomerId;
 import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
 import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.domain.valueobject.RestaurantOrderStatus;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
 import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.OrderItem;
 import com.food.ordering.system.order.service.domain.entity.Product;
-import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.event.OrderEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventProduct;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
 import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 @Component
 public class OrderDataMapper {
 
-    public Restaurant createOrderCommandToRestaurant(CreateOrderCommand createOrderCommand) {
-        return new Restaurant.Builder(createOrderCommand.getOrderItems()
-                .stream()
-                .map(orderItem -> new Product(
-                        new ProductId(orderItem.getProductId())))
-                .toList())
-                .restaurantId(new RestaurantId(createOrderCommand.getRestaurantId()))
-                .build();
-    }
-
     public Order createOrderCommandToOrder(CreateOrderCommand createOrderCommand) {
         return Order.builder()
                 .customerId(new CustomerId(createOrderCommand.getCustomerId()))
@@ -49,6 +49,24 @@ public class OrderDataMapper {
                 .build();
     }
 
+    public CreateOrderResult orderToCreateOrderResult(int index, Order order, String message) {
+        return CreateOrderResult.builder()
+                .index(index)
+                .created(true)
+                .orderTrackingId(order.getTrackingId().getValue())
+                .orderStatus(order.getOrderStatus())
+                .message(message)
+                .build();
+    }
+
+    public CreateOrderResult createOrderCommandToFailedResult(int index, String message) {
+        return CreateOrderResult.builder()
+                .index(index)
+                .created(false)
+                .message(message)
+                .build();
+    }
+
     public CreateOrderResponse orderToCreateOrderResponse(Order order, String message) {
         return CreateOrderResponse.builder()
                 .orderTrackingId(order.getTrackingId().getValue())
@@ -57,6 +75,45 @@ public class OrderDataMapper {
                 .build();
     }
 
+    public OrderPaymentEventPayload orderCreatedEventToOrderPaymentEventPayload(OrderCreatedEvent orderCreatedEvent) {
+        return orderEventToOrderPaymentEventPayload(orderCreatedEvent, PaymentOrderStatus.PENDING);
+    }
+
+    public OrderPaymentEventPayload orderCancelledEventToOrderPaymentEventPayload(OrderCancelledEvent orderCancelledEvent) {
+        return orderEventToOrderPaymentEventPayload(orderCancelledEvent, PaymentOrderStatus.CANCELLED);
+    }
+
+    public OrderApprovalEventPayload orderPaidEventToOrderApprovalEventPayload(OrderPaidEvent orderPaidEvent) {
+        var order = orderPaidEvent.getOrder();
+        List<OrderApprovalEventProduct> products = new ArrayList<>(order.getItems().size());
+        for (OrderItem orderItem : order.getItems()) {
+            products.add(OrderApprovalEventProduct.builder()
+                    .id(orderItem.getProduct().getId().getValue().toString())
+                    .quantity(orderItem.getQuantity())
+                    .build());
+        }
+        return OrderApprovalEventPayload.builder()
+                .orderId(order.getId().getValue().toString())
+                .restaurantId(order.getRestaurantId().getValue().toString())
+                .price(order.getPrice().getAmount())
+                .createdAt(orderPaidEvent.getCreatedAt())
+                .restaurantOrderStatus(RestaurantOrderStatus.PAID.name())
+                .products(products)
+                .build();
+    }
+
+    private OrderPaymentEventPayload orderEventToOrderPaymentEventPayload(OrderEvent orderEvent,
+                                                                          PaymentOrderStatus paymentOrderStatus) {
+        var order = orderEvent.getOrder();
+        return OrderPaymentEventPayload.builder()
+                .orderId(order.getId().getValue().toString())
+                .customerId(order.getCustomerId().getValue().toString())
+                .price(order.getPrice().getAmount())
+                .createdAt(orderEvent.getCreatedAt())
+                .paymentOrderStatus(paymentOrderStatus.name())
+                .build();
+    }
+
     private List<OrderItem> orderItemsToOrderItemsEntities(
             List<com.food.ordering.system.order.service.domain.dto.create.OrderItem> orderItems) {
         return orderItems.stream().map(orderItem ->
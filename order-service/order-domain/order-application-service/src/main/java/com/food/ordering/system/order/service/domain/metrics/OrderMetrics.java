@@ -0,0 +1,99 @@
+package com.food.ordering.system.order.service.domain.metrics;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.event.OrderApprovedEvent;
+import com.food.ordering.system.order.service.domain.event.OrderCancelCompletedEvent;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.event.OrderEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters of the create order steps and of the order transitions. All of them are registered
+ * when the bean is created, the hot paths only record into the fields
+ */
+@Component
+public class OrderMetrics {
+
+    private static final String CREATE_STEP_TIMER = "order.create.step";
+    private static final String TRANSITIONS_COUNTER = "order.transitions";
+
+    private final Timer customerCheckTimer;
+    private final Timer restaurantCheckTimer;
+    private final Timer validationTimer;
+    private final Timer saveTimer;
+    private final Map<OrderStatus, Counter> transitionCounters = new EnumMap<>(OrderStatus.class);
+
+    public OrderMetrics(MeterRegistry meterRegistry) {
+        this.customerCheckTimer = createStepTimer(meterRegistry, "customer-check");
+        this.restaurantCheckTimer = createStepTimer(meterRegistry, "restaurant-check");
+        this.validationTimer = createStepTimer(meterRegistry, "validation");
+        this.saveTimer = createStepTimer(meterRegistry, "save");
+        for (OrderStatus orderStatus : OrderStatus.values()) {
+            transitionCounters.put(orderStatus, Counter.builder(TRANSITIONS_COUNTER)
+                    .description("Order transitions committed, by the status reached")
+                    .tag("status", orderStatus.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Steps pass the System.nanoTime they started at, so timing a step does not allocate
+     */
+    public void recordCustomerCheck(long start) {
+        customerCheckTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRestaurantCheck(long start) {
+        restaurantCheckTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordValidation(long start) {
+        validationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordSave(long start) {
+        saveTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Counted once the transaction commits, by the event type since the order of an event
+     * may already have moved on when several responses of the order are applied in one batch
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderEvent(OrderEvent orderEvent) {
+        transitionCounters.get(statusReached(orderEvent)).increment();
+    }
+
+    private static OrderStatus statusReached(OrderEvent orderEvent) {
+        if (orderEvent instanceof OrderCreatedEvent) {
+            return OrderStatus.PENDING;
+        } else if (orderEvent instanceof OrderPaidEvent) {
+            return OrderStatus.PAID;
+        } else if (orderEvent instanceof OrderApprovedEvent) {
+            return OrderStatus.APPROVED;
+        } else if (orderEvent instanceof OrderCancelledEvent) {
+            return OrderStatus.CANCELLING;
+        } else if (orderEvent instanceof OrderCancelCompletedEvent) {
+            return OrderStatus.CANCELLED;
+        }
+        return orderEvent.getOrder().getOrderStatus();
+    }
+
+    private static Timer createStepTimer(MeterRegistry meterRegistry, String step) {
+        return Timer.builder(CREATE_STEP_TIMER)
+                .description("Time spent in a step of creating an order")
+                .tag("step", step)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,113 @@
+package com.food.ordering.system.order.service.domain.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessageType;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import com.food.ordering.system.order.service.domain.utils.MessageLogger;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.OUTBOX_PAYLOAD_SERIALIZATION_ERROR;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.OUTBOX_TRACE_CONTEXT_NOT_SAVED;
+
+/**
+ * Outbox messages have to be saved inside the transaction that changes the order,
+ * so the request is published if and only if the order change is committed
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderOutboxHelper {
+
+    private static final MessageLogger log = MessageLogger.getLogger(OrderOutboxHelper.class);
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final ObjectMapper objectMapper;
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    public void savePaymentOutboxMessage(OrderPaymentEventPayload payload, UUID sagaId) {
+        orderOutboxRepository.save(paymentOutboxMessage(payload, sagaId));
+    }
+
+    public void saveApprovalOutboxMessage(OrderApprovalEventPayload payload, UUID sagaId) {
+        orderOutboxRepository.save(approvalOutboxMessage(payload, sagaId));
+    }
+
+    public void saveOutboxMessages(List<OrderOutboxMessage> outboxMessages) {
+        orderOutboxRepository.saveAll(outboxMessages);
+    }
+
+    public OrderOutboxMessage paymentOutboxMessage(OrderPaymentEventPayload payload, UUID sagaId) {
+        return outboxMessage(OrderOutboxMessageType.PAYMENT_REQUEST,
+                payload.getOrderId(), payload.getCreatedAt(), payload, sagaId);
+    }
+
+    public OrderOutboxMessage approvalOutboxMessage(OrderApprovalEventPayload payload, UUID sagaId) {
+        return outboxMessage(OrderOutboxMessageType.RESTAURANT_APPROVAL_REQUEST,
+                payload.getOrderId(), payload.getCreatedAt(), payload, sagaId);
+    }
+
+    private OrderOutboxMessage outboxMessage(OrderOutboxMessageType type,
+                                             String orderId,
+                                             ZonedDateTime createdAt,
+                                             Object payload,
+                                             UUID sagaId) {
+        return OrderOutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .sagaId(sagaId)
+                .orderId(UUID.fromString(orderId))
+                .type(type)
+                .payload(createPayload(type, orderId, payload))
+                .traceContext(currentTraceContext(type, orderId))
+                .createdAt(createdAt)
+                .outboxStatus(OutboxStatus.STARTED)
+                .build();
+    }
+
+    private String createPayload(OrderOutboxMessageType type, String orderId, Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            String errorMessage = String.format(OUTBOX_PAYLOAD_SERIALIZATION_ERROR, type, orderId);
+            log.error(OUTBOX_PAYLOAD_SERIALIZATION_ERROR, type, orderId, e);
+            throw new OrderDomainException(errorMessage, e);
+        }
+    }
+
+    /**
+     * The propagation fields of the current span as a JSON object, null when there is no span.
+     * A context that can not be written only breaks the trace, the message is still saved
+     */
+    private String currentTraceContext(OrderOutboxMessageType type, String orderId) {
+        Span span = tracer.currentSpan();
+        if (span == null) {
+            return null;
+        }
+        Map<String, String> fields = new LinkedHashMap<>();
+        propagator.inject(span.context(), fields, Map::put);
+        if (fields.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(fields);
+        } catch (JsonProcessingException e) {
+            log.warn(OUTBOX_TRACE_CONTEXT_NOT_SAVED, type, orderId, e);
+            return null;
+        }
+    }
+}
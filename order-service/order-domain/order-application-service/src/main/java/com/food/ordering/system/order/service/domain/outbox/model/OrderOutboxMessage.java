@@ -0,0 +1,52 @@
+package com.food.ordering.system.order.service.domain.outbox.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * Request to be published written in the same transaction as the order change that
+ * originated it. The id is the message id sent to the other services, so a message
+ * published twice after a retry can be recognized as the same one. The trace context of
+ * the order change is kept with it, so the publish continues the trace of the change.
+ * A message whose publish failed is not picked up again before nextAttemptAt
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderOutboxMessage {
+    private final UUID id;
+    private final UUID sagaId;
+    private final UUID orderId;
+    private final OrderOutboxMessageType type;
+    private final String payload;
+    private final String traceContext;
+    private final ZonedDateTime createdAt;
+    private ZonedDateTime processedAt;
+    private OutboxStatus outboxStatus;
+    private int attempts;
+    private ZonedDateTime nextAttemptAt;
+
+    public void markCompleted(ZonedDateTime processedAt) {
+        this.processedAt = processedAt;
+        nextAttemptAt = null;
+        outboxStatus = OutboxStatus.COMPLETED;
+    }
+
+    /**
+     * Message stays STARTED to be picked up again after the backoff until it runs out of
+     * attempts. A FAILED message is not published until it is restarted
+     */
+    public void markFailedAttempt(ZonedDateTime processedAt, Duration backoff, int maxAttempts) {
+        this.processedAt = processedAt;
+        nextAttemptAt = processedAt.plus(backoff);
+        attempts++;
+        if (attempts >= maxAttempts) {
+            outboxStatus = OutboxStatus.FAILED;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.food.ordering.system.order.service.domain.outbox.model;
+
+/**
+ * Defines the request an outbox message turns into, and so the topic it is published to
+ */
+public enum OrderOutboxMessageType {
+    PAYMENT_REQUEST, RESTAURANT_APPROVAL_REQUEST
+}
@@ -0,0 +1,30 @@
+package com.food.ordering.system.order.service.domain.outbox.model.approval;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderApprovalEventPayload {
+    @JsonProperty
+    private String orderId;
+    @JsonProperty
+    private String restaurantId;
+    @JsonProperty
+    private BigDecimal price;
+    @JsonProperty
+    private ZonedDateTime createdAt;
+    @JsonProperty
+    private String restaurantOrderStatus;
+    @JsonProperty
+    private List<OrderApprovalEventProduct> products;
+}
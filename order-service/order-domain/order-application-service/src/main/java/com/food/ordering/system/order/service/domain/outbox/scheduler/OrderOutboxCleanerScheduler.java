@@ -0,0 +1,53 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler;
+
+import com.food.ordering.system.order.service.domain.config.OrderOutboxConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import com.food.ordering.system.order.service.domain.utils.MessageLogger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.OUTBOX_MESSAGES_DELETED;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.OUTBOX_MESSAGES_RESTARTED;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ZONE_DATETIME_UTC;
+
+/**
+ * Keeps the outbox small so claiming STARTED messages stays an index range scan, and gives the
+ * FAILED messages another round of attempts, their saga has no other way to move on
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderOutboxCleanerScheduler {
+
+    private static final MessageLogger log = MessageLogger.getLogger(OrderOutboxCleanerScheduler.class);
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final OrderOutboxConfigData orderOutboxConfigData;
+
+    @Transactional
+    @Scheduled(cron = "${order-outbox-config.cleaner-cron:0 0 * * * *}")
+    public void deleteCompletedOutboxMessages() {
+        var processedBefore = ZonedDateTime.now(ZoneId.of(ZONE_DATETIME_UTC))
+                .minusMinutes(orderOutboxConfigData.getCompletedRetentionMinutes());
+        int deleted = orderOutboxRepository.deleteByStatusAndProcessedAtBefore(OutboxStatus.COMPLETED, processedBefore);
+        if (deleted > 0) {
+            log.info(OUTBOX_MESSAGES_DELETED, deleted);
+        }
+    }
+
+    @Transactional
+    @Scheduled(cron = "${order-outbox-config.cleaner-cron:0 0 * * * *}")
+    public void restartFailedOutboxMessages() {
+        var processedBefore = ZonedDateTime.now(ZoneId.of(ZONE_DATETIME_UTC))
+                .minusMinutes(orderOutboxConfigData.getFailedRestartMinutes());
+        int restarted = orderOutboxRepository.restartByStatusAndProcessedAtBefore(OutboxStatus.FAILED, processedBefore);
+        if (restarted > 0) {
+            log.warn(OUTBOX_MESSAGES_RESTARTED, restarted);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler;
+
+import com.food.ordering.system.order.service.domain.config.OrderOutboxConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.outbox.OrderOutboxMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import com.food.ordering.system.order.service.domain.utils.MessageLogger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.OUTBOX_BATCH_PROCESSED;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.OUTBOX_LATE_OUTCOMES_SAVED;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.OUTBOX_MESSAGE_FAILED;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.OUTBOX_MESSAGE_NOT_PUBLISHED;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ZONE_DATETIME_UTC;
+
+@Component
+@RequiredArgsConstructor
+public class OrderOutboxDrainer {
+
+    private static final MessageLogger log = MessageLogger.getLogger(OrderOutboxDrainer.class);
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final OrderOutboxMessagePublisher orderOutboxMessagePublisher;
+    private final OrderOutboxConfigData orderOutboxConfigData;
+    /**
+     * Messages whose send completed after the send timeout, saved by the next batch
+     */
+    private final Queue<OrderOutboxMessage> lateOutcomes = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Claimed rows are leased in a short transaction and published without any transaction or
+     * row lock open, then the outcomes are saved, which ends the leases. A send that did not
+     * finish in time keeps its lease, its outcome is saved once the producer completes it, so
+     * it is not published again while it may still reach the broker. A failed send is not claimed
+     * again before its backoff ends. A message is only published twice when the node stops before
+     * saving its outcome and the lease runs out
+     *
+     * @return number of claimed messages
+     */
+    public int drainBatch() {
+        saveLateOutcomes();
+        var claimedAt = ZonedDateTime.now(ZoneId.of(ZONE_DATETIME_UTC));
+        List<OrderOutboxMessage> messages = orderOutboxRepository.claimBatch(OutboxStatus.STARTED,
+                orderOutboxConfigData.getBatchSize(), claimedAt,
+                claimedAt.plusNanos(TimeUnit.MILLISECONDS.toNanos(orderOutboxConfigData.getLeaseMs())));
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<Void>> sends = new ArrayList<>(messages.size());
+        for (OrderOutboxMessage message : messages) {
+            sends.add(publish(message));
+        }
+        awaitSends(sends);
+
+        var processedAt = ZonedDateTime.now(ZoneId.of(ZONE_DATETIME_UTC));
+        List<OrderOutboxMessage> outcomes = new ArrayList<>(messages.size());
+        int failed = 0;
+        for (int i = 0; i < messages.size(); i++) {
+            var message = messages.get(i);
+            var send = sends.get(i);
+            if (!send.isDone()) {
+                send.whenComplete((result, throwable) -> {
+                    markOutcome(message, throwable != null, ZonedDateTime.now(ZoneId.of(ZONE_DATETIME_UTC)));
+                    lateOutcomes.add(message);
+                });
+                continue;
+            }
+            boolean sendFailed = send.isCompletedExceptionally();
+            if (sendFailed) {
+                failed++;
+            }
+            markOutcome(message, sendFailed, processedAt);
+            outcomes.add(message);
+        }
+        if (!outcomes.isEmpty()) {
+            orderOutboxRepository.saveAll(outcomes);
+        }
+        log.info(OUTBOX_BATCH_PROCESSED, messages.size(), failed, messages.size() - outcomes.size());
+        return messages.size();
+    }
+
+    private void markOutcome(OrderOutboxMessage message, boolean sendFailed, ZonedDateTime processedAt) {
+        if (sendFailed) {
+            message.markFailedAttempt(processedAt, retryBackoff(message.getAttempts()), orderOutboxConfigData.getMaxAttempts());
+            if (message.getOutboxStatus() == OutboxStatus.FAILED) {
+                log.error(OUTBOX_MESSAGE_FAILED, message.getId(), message.getType(), message.getAttempts());
+            }
+        } else {
+            message.markCompleted(processedAt);
+        }
+    }
+
+    /**
+     * Exponential backoff with equal jitter, so the messages failed by the same broker outage
+     * are not all published again at the same time
+     */
+    private Duration retryBackoff(int attempts) {
+        long backoffMs = Math.min(orderOutboxConfigData.getRetryMaxBackoffMs(),
+                orderOutboxConfigData.getRetryBackoffMs() << Math.min(attempts, 20));
+        long halfBackoffMs = backoffMs / 2;
+        return Duration.ofMillis(halfBackoffMs + ThreadLocalRandom.current().nextLong(halfBackoffMs + 1));
+    }
+
+    private void saveLateOutcomes() {
+        List<OrderOutboxMessage> outcomes = new ArrayList<>();
+        for (OrderOutboxMessage message = lateOutcomes.poll(); message != null; message = lateOutcomes.poll()) {
+            outcomes.add(message);
+        }
+        if (!outcomes.isEmpty()) {
+            orderOutboxRepository.saveAll(outcomes);
+            log.info(OUTBOX_LATE_OUTCOMES_SAVED, outcomes.size());
+        }
+    }
+
+    private CompletableFuture<Void> publish(OrderOutboxMessage message) {
+        try {
+            return orderOutboxMessagePublisher.publish(message);
+        } catch (RuntimeException e) {
+            log.error(OUTBOX_MESSAGE_NOT_PUBLISHED, message.getId(), message.getType(), e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void awaitSends(List<CompletableFuture<Void>> sends) {
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                    .get(orderOutboxConfigData.getSendTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // Failed and unfinished sends are checked one by one afterwards
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler;
+
+import com.food.ordering.system.order.service.domain.config.OrderOutboxConfigData;
+import com.food.ordering.system.order.service.domain.config.VirtualThreadConfigData;
+import com.food.ordering.system.order.service.domain.utils.MessageLogger;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.OUTBOX_DRAINER_FAILED;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.OUTBOX_MESSAGES_PROCESSED;
+
+/**
+ * Runs parallelism drainers, each one claims batches until the outbox has no more
+ * STARTED messages. Several nodes can run it at the same time because claimed rows
+ * are skipped by the other drainers
+ */
+@Component
+public class OrderOutboxScheduler {
+
+    private static final MessageLogger log = MessageLogger.getLogger(OrderOutboxScheduler.class);
+
+    private final OrderOutboxDrainer orderOutboxDrainer;
+    private final OrderOutboxConfigData orderOutboxConfigData;
+    private final ExecutorService drainerExecutor;
+
+    /**
+     * Drainers block on the database and on the Kafka acks, with virtual threads every run
+     * starts parallelism new ones instead of keeping a pool
+     */
+    public OrderOutboxScheduler(OrderOutboxDrainer orderOutboxDrainer,
+                                OrderOutboxConfigData orderOutboxConfigData,
+                                VirtualThreadConfigData virtualThreadConfigData) {
+        this.orderOutboxDrainer = orderOutboxDrainer;
+        this.orderOutboxConfigData = orderOutboxConfigData;
+        this.drainerExecutor = virtualThreadConfigData.getEnabled()
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("order-outbox-drainer-", 0).factory())
+                : Executors.newFixedThreadPool(orderOutboxConfigData.getParallelism());
+    }
+
+    @Scheduled(fixedDelayString = "${order-outbox-config.fixed-delay-ms:1000}",
+            initialDelayString = "${order-outbox-config.initial-delay-ms:10000}")
+    public void processOutboxMessages() {
+        List<Future<Integer>> drainers = new ArrayList<>(orderOutboxConfigData.getParallelism());
+        for (int i = 0; i < orderOutboxConfigData.getParallelism(); i++) {
+            drainers.add(drainerExecutor.submit(this::drainUntilEmpty));
+        }
+
+        int processed = 0;
+        for (Future<Integer> drainer : drainers) {
+            try {
+                processed += drainer.get();
+            } catch (ExecutionException e) {
+                log.error(OUTBOX_DRAINER_FAILED, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        if (processed > 0) {
+            log.info(OUTBOX_MESSAGES_PROCESSED, processed);
+        }
+    }
+
+    private int drainUntilEmpty() {
+        int processed = 0;
+        int claimed;
+        do {
+            claimed = orderOutboxDrainer.drainBatch();
+            processed += claimed;
+        } while (claimed == orderOutboxConfigData.getBatchSize() && !Thread.currentThread().isInterrupted());
+        return processed;
+    }
+
+    @PreDestroy
+    public void close() {
+        drainerExecutor.shutdownNow();
+    }
+}
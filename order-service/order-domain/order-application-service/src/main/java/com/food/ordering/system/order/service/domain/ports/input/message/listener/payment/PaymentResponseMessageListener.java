@@ -2,9 +2,16 @@ package com.food.ordering.system.order.service.domain.ports.input.message.listen
 
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 
+import java.util.List;
+
 public interface PaymentResponseMessageListener {
 
     void paymentCompleted(PaymentResponse paymentResponse);
 
     void paymentCancelled(PaymentResponse paymentResponse);
+
+    /**
+     * Responses of one poll in their partition order, they are applied and stored as a unit
+     */
+    void paymentResponsesReceived(List<PaymentResponse> paymentResponses);
 }
\ No newline at end of file
@@ -2,8 +2,15 @@ package com.food.ordering.system.order.service.domain.ports.input.message.listen
 
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
 
+import java.util.List;
+
 public interface RestaurantApprovalResponseMessageListener {
 
     void orderApproved(RestaurantApprovalResponse restaurantApprovalResponse);
     void orderRejected(RestaurantApprovalResponse restaurantApprovalResponse);
+
+    /**
+     * Responses of one poll in their partition order, they are applied and stored as a unit
+     */
+    void approvalResponsesReceived(List<RestaurantApprovalResponse> restaurantApprovalResponses);
 }
\ No newline at end of file
@@ -2,15 +2,41 @@ package com.food.ordering.system.order.service.domain.ports.input.service;
 
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
+import com.food.ordering.system.order.service.domain.dto.export.ExportOrdersQuery;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExport;
+import com.food.ordering.system.order.service.domain.dto.list.ListOrdersQuery;
+import com.food.ordering.system.order.service.domain.dto.list.OrderListing;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
 
 public interface OrderApplicationService {
 
     CreateOrderResponse createOrder(@Valid CreateOrderCommand createOrderCommand);
 
+    /**
+     * Every command is validated on its own, the valid ones are created together
+     * and the others are returned as not created with the reason
+     */
+    List<CreateOrderResult> createOrders(@NotEmpty List<CreateOrderCommand> createOrderCommands);
+
     TrackOrderResponse trackOrder(@Valid TrackOrderQuery trackOrderQuery);
 
+    /**
+     * Pages by creation date and order id, newest first, so a page costs the same whatever
+     * its position. The query fails here, the orders are read when the listing is consumed
+     */
+    OrderListing listOrders(@Valid ListOrdersQuery listOrdersQuery);
+
+    /**
+     * Streams the orders of a creation date range through a forward only cursor, so memory
+     * stays the same whatever the number of orders. The range fails here, the orders are read
+     * when the export is written
+     */
+    OrderExport exportOrders(@Valid ExportOrdersQuery exportOrdersQuery);
 
 }
\ No newline at end of file
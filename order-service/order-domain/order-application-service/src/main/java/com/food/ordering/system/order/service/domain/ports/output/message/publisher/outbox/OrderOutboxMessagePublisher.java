@@ -0,0 +1,13 @@
+package com.food.ordering.system.order.service.domain.ports.output.message.publisher.outbox;
+
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface OrderOutboxMessagePublisher {
+
+    /**
+     * Completes when the broker acknowledges the message, it must not block the caller
+     */
+    CompletableFuture<Void> publish(OrderOutboxMessage orderOutboxMessage);
+}
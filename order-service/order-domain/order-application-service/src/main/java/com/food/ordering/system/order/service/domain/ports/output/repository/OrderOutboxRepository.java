@@ -0,0 +1,29 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public interface OrderOutboxRepository {
+
+    void save(OrderOutboxMessage orderOutboxMessage);
+
+    void saveAll(List<OrderOutboxMessage> orderOutboxMessages);
+
+    /**
+     * Leases up to batchSize messages, oldest first, until claimedUntil in a transaction of its
+     * own. Messages leased until after claimedAt, or being claimed by another transaction, are
+     * skipped, as are messages waiting for their next attempt. Saving a message ends its lease
+     */
+    List<OrderOutboxMessage> claimBatch(OutboxStatus outboxStatus, int batchSize,
+                                        ZonedDateTime claimedAt, ZonedDateTime claimedUntil);
+
+    int deleteByStatusAndProcessedAtBefore(OutboxStatus outboxStatus, ZonedDateTime processedAt);
+
+    /**
+     * Moves the messages back to STARTED with no attempts, to be published by the next drain
+     */
+    int restartByStatusAndProcessedAtBefore(OutboxStatus outboxStatus, ZonedDateTime processedAt);
+}
@@ -1,14 +1,70 @@
 package com.food.ordering.system.order.service.domain.ports.output.repository;
 
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportRecord;
+import com.food.ordering.system.order.service.domain.dto.list.OrderCursor;
+import com.food.ordering.system.order.service.domain.dto.list.OrderSummary;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public interface OrderRepository {
 
     Order save(Order order);
 
+    /**
+     * Orders are inserted in bulk, every order must be new
+     */
+    List<Order> saveAll(List<Order> orders);
+
+    /**
+     * Orders are updated in bulk, the status is written and the failure messages added since the
+     * orders were loaded are appended to the stored ones. Orders whose version changed since they
+     * were loaded are not written, their ids are returned
+     */
+    List<OrderId> updateAll(List<Order> orders);
+
+    /**
+     * Orders with their items, address and version as currently stored, without the stored failure
+     * messages. Unknown ids are left out
+     */
+    List<Order> findByIds(List<OrderId> orderIds);
+
+    /**
+     * Only tracking id, status and failure messages are loaded in the returned order, the failure
+     * messages only for cancelling and cancelled orders
+     */
     Optional<Order> findByTrackingId(TrackingId trackingId);
 
+    /**
+     * Up to limit orders of the customer in the status, newest first, after the cursor when
+     * given. Rows are read as the stream is consumed, it must be closed in the transaction
+     */
+    Stream<OrderSummary> findCustomerOrderSummaries(CustomerId customerId, OrderStatus orderStatus,
+                                                    OrderCursor after, int limit);
+
+    /**
+     * Same as {@link #findCustomerOrderSummaries} for the orders of a restaurant
+     */
+    Stream<OrderSummary> findRestaurantOrderSummaries(RestaurantId restaurantId, OrderStatus orderStatus,
+                                                      OrderCursor after, int limit);
+
+    /**
+     * Orders created in the range, of the restaurant when given, oldest first with their items
+     * and address. Every order is handed to the consumer as soon as its rows are read, must be
+     * called in a transaction
+     *
+     * @return number of orders handed to the consumer
+     */
+    long forEachExportedOrder(RestaurantId restaurantId, ZonedDateTime createdFrom, ZonedDateTime createdTo,
+                              Consumer<OrderExportRecord> orderConsumer);
+
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.saga.model.OrderSaga;
+import com.food.ordering.system.order.service.domain.saga.model.SagaStatus;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public interface OrderSagaRepository {
+
+    void saveAll(List<OrderSaga> orderSagas);
+
+    /**
+     * Sagas are updated in bulk by saga id, unknown sagas are ignored
+     */
+    void updateAll(List<OrderSaga> orderSagas);
+
+    /**
+     * Locks up to batchSize sagas in the given status not updated since updatedBefore, oldest
+     * first, until the surrounding transaction ends. Sagas locked by another transaction are skipped
+     */
+    List<OrderSaga> claimTimedOut(SagaStatus sagaStatus, ZonedDateTime updatedBefore, int batchSize);
+}
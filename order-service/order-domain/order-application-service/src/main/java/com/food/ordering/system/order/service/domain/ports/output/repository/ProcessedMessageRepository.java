@@ -0,0 +1,23 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.saga.model.ProcessedMessage;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface ProcessedMessageRepository {
+
+    /**
+     * The given ids that are already stored
+     */
+    List<UUID> findProcessedIds(List<UUID> messageIds);
+
+    /**
+     * Fails on an id already stored, so a message applied by two consumers at the same time
+     * rolls back one of the transactions
+     */
+    void saveAll(List<ProcessedMessage> processedMessages);
+
+    int deleteByProcessedAtBefore(ZonedDateTime processedAt);
+}
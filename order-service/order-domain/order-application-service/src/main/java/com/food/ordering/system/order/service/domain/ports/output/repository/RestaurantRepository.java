@@ -1,10 +1,14 @@
 package com.food.ordering.system.order.service.domain.ports.output.repository;
 
+import com.food.ordering.system.domain.valueobject.RestaurantId;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 
 import java.util.Optional;
 
 public interface RestaurantRepository {
 
-    Optional<Restaurant> findRestaurant(Restaurant restaurant);
+    /**
+     * Restaurant with its whole menu, the returned instance may be shared between orders
+     */
+    Optional<Restaurant> findRestaurant(RestaurantId restaurantId);
 }
\ No newline at end of file
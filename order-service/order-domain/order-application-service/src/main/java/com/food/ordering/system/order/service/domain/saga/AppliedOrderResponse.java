@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.domain.saga;
+
+import com.food.ordering.system.order.service.domain.dto.message.OrderResponse;
+import com.food.ordering.system.order.service.domain.event.OrderEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A response and the event of the order change it caused
+ */
+@Getter
+@AllArgsConstructor
+public class AppliedOrderResponse<R extends OrderResponse> {
+    private final R response;
+    private final OrderEvent orderEvent;
+}
@@ -0,0 +1,84 @@
+package com.food.ordering.system.order.service.domain.saga;
+
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.config.OrderResponseConfigData;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.utils.MessageLogger;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_UPDATE_CONFLICT;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_UPDATE_CONFLICT_RETRIES_EXHAUSTED;
+
+/**
+ * Retries order writes that lost an optimistic version check instead of locking the orders.
+ * The conflicting orders are reloaded and their transitions applied again right away: the
+ * update waited for the transaction holding the row lock to commit before it failed the check,
+ * so the reload reads the winning version. Waiting would only hold the locks of the orders
+ * already written by the caller transaction for longer
+ */
+@Component
+public class OrderConflictRetryExecutor implements MeterBinder {
+
+    private static final MessageLogger log = MessageLogger.getLogger(OrderConflictRetryExecutor.class);
+
+    private final OrderResponseConfigData orderResponseConfigData;
+    private final LongAdder orderWrites = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder retriesExhausted = new LongAdder();
+
+    public OrderConflictRetryExecutor(OrderResponseConfigData orderResponseConfigData) {
+        this.orderResponseConfigData = orderResponseConfigData;
+    }
+
+    /**
+     * loadApplyAndWrite gets the ids of the orders to load, apply and write, and returns the ids
+     * that had a version conflict. When the attempts run out an OrderDomainException is thrown,
+     * the caller transaction is rolled back and the listener retries the batch after its backoff
+     */
+    public void execute(Collection<OrderId> orderIds,
+                        Function<Collection<OrderId>, Collection<OrderId>> loadApplyAndWrite) {
+        var pending = orderIds;
+        for (int attempt = 1; ; attempt++) {
+            var conflicting = loadApplyAndWrite.apply(pending);
+            orderWrites.add(pending.size());
+            if (conflicting.isEmpty()) {
+                return;
+            }
+            conflicts.add(conflicting.size());
+            if (attempt >= orderResponseConfigData.getConflictMaxAttempts()) {
+                retriesExhausted.increment();
+                throw new OrderDomainException(String.format(ORDER_UPDATE_CONFLICT_RETRIES_EXHAUSTED,
+                        conflicting, attempt));
+            }
+            log.warn(ORDER_UPDATE_CONFLICT, conflicting.size(), attempt);
+            pending = conflicting;
+        }
+    }
+
+    public OrderConflictStats stats() {
+        return new OrderConflictStats(orderWrites.sum(), conflicts.sum(), retriesExhausted.sum());
+    }
+
+    /**
+     * The conflict rate is order.write.conflicts over order.writes
+     */
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("order.writes", orderWrites, LongAdder::sum)
+                .description("Order writes of saga responses, retries included")
+                .register(meterRegistry);
+        FunctionCounter.builder("order.write.conflicts", conflicts, LongAdder::sum)
+                .description("Order writes that lost the version check")
+                .register(meterRegistry);
+        FunctionCounter.builder("order.write.retries.exhausted", retriesExhausted, LongAdder::sum)
+                .description("Response batches rolled back after running out of conflict retries")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.domain.saga;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Order writes and version conflicts since startup
+ */
+@Getter
+@AllArgsConstructor
+public class OrderConflictStats {
+    private final long orderWrites;
+    private final long conflicts;
+    private final long retriesExhausted;
+
+    public double conflictRate() {
+        return orderWrites == 0 ? 0.0 : (double) conflicts / orderWrites;
+    }
+}
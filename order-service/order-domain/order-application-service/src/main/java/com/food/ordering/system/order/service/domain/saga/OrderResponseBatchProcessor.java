@@ -0,0 +1,182 @@
+package com.food.ordering.system.order.service.domain.saga;
+
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.config.OrderResponseConfigData;
+import com.food.ordering.system.order.service.domain.dto.message.OrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.utils.MessageLogger;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_RESPONSES_APPLIED;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_RESPONSE_NOT_APPLIED;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_RESPONSE_ORDER_NOT_FOUND;
+
+/**
+ * Applies a polled batch of saga responses to their orders. Responses are grouped by order id
+ * keeping their poll order, the orders are loaded with one query and the groups are applied in
+ * parallel, the responses of one order one after the other. Changed orders are written with one
+ * batch update checking their version. Must be called within the transaction of the caller
+ */
+@Component
+public class OrderResponseBatchProcessor {
+
+    private static final MessageLogger log = MessageLogger.getLogger(OrderResponseBatchProcessor.class);
+
+    private final OrderRepository orderRepository;
+    private final ProcessedMessageStore processedMessageStore;
+    private final OrderConflictRetryExecutor orderConflictRetryExecutor;
+    private final OrderSagaHelper orderSagaHelper;
+    private final OrderResponseConfigData orderResponseConfigData;
+    private final ExecutorService responseExecutor;
+
+    public OrderResponseBatchProcessor(OrderRepository orderRepository,
+                                       ProcessedMessageStore processedMessageStore,
+                                       OrderConflictRetryExecutor orderConflictRetryExecutor,
+                                       OrderSagaHelper orderSagaHelper,
+                                       OrderResponseConfigData orderResponseConfigData) {
+        this.orderRepository = orderRepository;
+        this.processedMessageStore = processedMessageStore;
+        this.orderConflictRetryExecutor = orderConflictRetryExecutor;
+        this.orderSagaHelper = orderSagaHelper;
+        this.orderResponseConfigData = orderResponseConfigData;
+        this.responseExecutor = Executors.newFixedThreadPool(orderResponseConfigData.getParallelism(),
+                new CustomizableThreadFactory("order-response-"));
+    }
+
+    /**
+     * Responses already processed are dropped before the orders are loaded. A response whose
+     * order is unknown or in a state the transition does not accept is logged and skipped, the
+     * rest of the batch is still applied. Orders changed meanwhile by another transaction are
+     * loaded and applied again by the {@link OrderConflictRetryExecutor}. The saga steps reached
+     * are stored and every new response is marked as processed
+     */
+    public <R extends OrderResponse> List<AppliedOrderResponse<R>> process(
+            List<R> responses, BiFunction<Order, R, OrderEvent> transition) {
+        var newResponses = processedMessageStore.filterNotProcessed(responses);
+        if (newResponses.isEmpty()) {
+            return List.of();
+        }
+        Map<OrderId, List<R>> responsesByOrder = new LinkedHashMap<>();
+        for (R response : newResponses) {
+            responsesByOrder.computeIfAbsent(new OrderId(UUID.fromString(response.getOrderId())),
+                    orderId -> new ArrayList<>(1)).add(response);
+        }
+        List<AppliedOrderResponse<R>> appliedResponses = new ArrayList<>(newResponses.size());
+        orderConflictRetryExecutor.execute(responsesByOrder.keySet(),
+                orderIds -> loadApplyAndWrite(orderIds, responsesByOrder, transition, appliedResponses));
+        orderSagaHelper.recordSteps(appliedResponses);
+        processedMessageStore.markProcessed(newResponses);
+        if (log.isInfoEnabled()) {
+            log.info(ORDER_RESPONSES_APPLIED, appliedResponses.size(), responses.size(),
+                    appliedResponses.stream().map(applied -> applied.getOrderEvent().getOrder().getId()).distinct().count());
+        }
+        return appliedResponses;
+    }
+
+    /**
+     * Responses applied to an order that had a version conflict are left out of
+     * appliedResponses, its id is returned to be loaded and applied again
+     */
+    private <R extends OrderResponse> Collection<OrderId> loadApplyAndWrite(
+            Collection<OrderId> orderIds,
+            Map<OrderId, List<R>> responsesByOrder,
+            BiFunction<Order, R, OrderEvent> transition,
+            List<AppliedOrderResponse<R>> appliedResponses) {
+        Map<OrderId, Order> orders = new HashMap<>();
+        for (Order order : orderRepository.findByIds(new ArrayList<>(orderIds))) {
+            orders.put(order.getId(), order);
+        }
+        List<Map.Entry<OrderId, List<R>>> groups = new ArrayList<>(orderIds.size());
+        for (OrderId orderId : orderIds) {
+            groups.add(Map.entry(orderId, responsesByOrder.get(orderId)));
+        }
+
+        var applied = applyInSlices(groups, orders, transition);
+        Map<OrderId, Order> changedOrders = new LinkedHashMap<>();
+        for (AppliedOrderResponse<R> appliedResponse : applied) {
+            var order = appliedResponse.getOrderEvent().getOrder();
+            changedOrders.put(order.getId(), order);
+        }
+        if (changedOrders.isEmpty()) {
+            return List.of();
+        }
+        Set<OrderId> conflicting = new HashSet<>(orderRepository.updateAll(new ArrayList<>(changedOrders.values())));
+        for (AppliedOrderResponse<R> appliedResponse : applied) {
+            if (!conflicting.contains(appliedResponse.getOrderEvent().getOrder().getId())) {
+                appliedResponses.add(appliedResponse);
+            }
+        }
+        return conflicting;
+    }
+
+    /**
+     * Transitions only change the loaded orders in memory, so the slices do not need the
+     * connection of the transaction. Results keep the order of the groups
+     */
+    private <R extends OrderResponse> List<AppliedOrderResponse<R>> applyInSlices(
+            List<Map.Entry<OrderId, List<R>>> groups,
+            Map<OrderId, Order> orders,
+            BiFunction<Order, R, OrderEvent> transition) {
+        int slices = Math.min(orderResponseConfigData.getParallelism(),
+                groups.size() / orderResponseConfigData.getMinOrdersPerSlice());
+        if (slices <= 1) {
+            return applyGroups(groups, orders, transition);
+        }
+        int sliceSize = (groups.size() + slices - 1) / slices;
+        List<CompletableFuture<List<AppliedOrderResponse<R>>>> futures = new ArrayList<>(slices);
+        for (int from = 0; from < groups.size(); from += sliceSize) {
+            var slice = groups.subList(from, Math.min(from + sliceSize, groups.size()));
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> applyGroups(slice, orders, transition), responseExecutor));
+        }
+        List<AppliedOrderResponse<R>> appliedResponses = new ArrayList<>();
+        futures.forEach(future -> appliedResponses.addAll(future.join()));
+        return appliedResponses;
+    }
+
+    private <R extends OrderResponse> List<AppliedOrderResponse<R>> applyGroups(
+            List<Map.Entry<OrderId, List<R>>> groups,
+            Map<OrderId, Order> orders,
+            BiFunction<Order, R, OrderEvent> transition) {
+        List<AppliedOrderResponse<R>> appliedResponses = new ArrayList<>(groups.size());
+        for (Map.Entry<OrderId, List<R>> group : groups) {
+            var order = orders.get(group.getKey());
+            for (R response : group.getValue()) {
+                if (order == null) {
+                    log.warn(ORDER_RESPONSE_ORDER_NOT_FOUND, response.getOrderId(), response.getId());
+                    continue;
+                }
+                try {
+                    appliedResponses.add(new AppliedOrderResponse<>(response, transition.apply(order, response)));
+                } catch (OrderDomainException e) {
+                    log.warn(ORDER_RESPONSE_NOT_APPLIED, response.getId(), response.getOrderId(), e.getMessage());
+                }
+            }
+        }
+        return appliedResponses;
+    }
+
+    @PreDestroy
+    public void close() {
+        responseExecutor.shutdownNow();
+    }
+}
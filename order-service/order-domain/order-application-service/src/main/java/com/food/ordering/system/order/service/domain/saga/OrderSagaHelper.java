@@ -0,0 +1,62 @@
+package com.food.ordering.system.order.service.domain.saga;
+
+import com.food.ordering.system.order.service.domain.dto.message.OrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderSagaRepository;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSaga;
+import com.food.ordering.system.order.service.domain.saga.model.SagaStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ZONE_DATETIME_UTC;
+
+/**
+ * Saga steps are saved in the transaction that changes the order, in bulk like the orders
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderSagaHelper {
+
+    private final OrderSagaRepository orderSagaRepository;
+
+    public OrderSaga sagaStep(UUID sagaId, Order order, ZonedDateTime updatedAt) {
+        return OrderSaga.builder()
+                .sagaId(sagaId)
+                .orderId(order.getId().getValue())
+                .sagaStatus(SagaStatus.of(order.getOrderStatus()))
+                .orderStatus(order.getOrderStatus())
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    public void saveStartedSagas(List<OrderSaga> orderSagas) {
+        orderSagaRepository.saveAll(orderSagas);
+    }
+
+    public void updateSagas(List<OrderSaga> orderSagas) {
+        if (!orderSagas.isEmpty()) {
+            orderSagaRepository.updateAll(orderSagas);
+        }
+    }
+
+    /**
+     * One update per saga with the status its order reached after the batch
+     */
+    public <R extends OrderResponse> void recordSteps(List<AppliedOrderResponse<R>> appliedResponses) {
+        var updatedAt = ZonedDateTime.now(ZoneId.of(ZONE_DATETIME_UTC));
+        Map<UUID, OrderSaga> orderSagas = new LinkedHashMap<>();
+        for (AppliedOrderResponse<R> appliedResponse : appliedResponses) {
+            var sagaId = UUID.fromString(appliedResponse.getResponse().getSagaId());
+            orderSagas.put(sagaId, sagaStep(sagaId, appliedResponse.getOrderEvent().getOrder(), updatedAt));
+        }
+        updateSagas(new ArrayList<>(orderSagas.values()));
+    }
+}
@@ -0,0 +1,99 @@
+package com.food.ordering.system.order.service.domain.saga;
+
+import com.food.ordering.system.order.service.domain.config.ProcessedMessageConfigData;
+import com.food.ordering.system.order.service.domain.dto.message.OrderResponse;
+import com.food.ordering.system.order.service.domain.ports.output.repository.ProcessedMessageRepository;
+import com.food.ordering.system.order.service.domain.saga.model.ProcessedMessage;
+import com.food.ordering.system.order.service.domain.utils.MessageLogger;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.PROCESSED_MESSAGES_SKIPPED;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ZONE_DATETIME_UTC;
+
+/**
+ * Ids of the responses already applied. The table is the source of truth, an LRU of the ids
+ * committed by this node answers most redeliveries without a query
+ */
+@Component
+public class ProcessedMessageStore {
+
+    private static final MessageLogger log = MessageLogger.getLogger(ProcessedMessageStore.class);
+
+    private final ProcessedMessageRepository processedMessageRepository;
+    private final Cache<UUID, Boolean> recentlyProcessed;
+
+    public ProcessedMessageStore(ProcessedMessageRepository processedMessageRepository,
+                                 ProcessedMessageConfigData processedMessageConfigData) {
+        this.processedMessageRepository = processedMessageRepository;
+        this.recentlyProcessed = Caffeine.newBuilder()
+                .maximumSize(processedMessageConfigData.getCacheMaximumSize())
+                .build();
+    }
+
+    /**
+     * Responses not processed yet in their order, a response repeated in the batch is kept once.
+     * Ids missing in the LRU are looked up with one query
+     */
+    public <R extends OrderResponse> List<R> filterNotProcessed(List<R> responses) {
+        Map<UUID, R> candidates = new LinkedHashMap<>();
+        for (R response : responses) {
+            var messageId = UUID.fromString(response.getId());
+            if (recentlyProcessed.getIfPresent(messageId) == null) {
+                candidates.putIfAbsent(messageId, response);
+            }
+        }
+        if (!candidates.isEmpty()) {
+            for (UUID processedId : processedMessageRepository.findProcessedIds(new ArrayList<>(candidates.keySet()))) {
+                candidates.remove(processedId);
+                recentlyProcessed.put(processedId, Boolean.TRUE);
+            }
+        }
+        if (candidates.size() < responses.size()) {
+            log.info(PROCESSED_MESSAGES_SKIPPED, responses.size() - candidates.size(), responses.size());
+        }
+        return new ArrayList<>(candidates.values());
+    }
+
+    /**
+     * Must be called in the transaction that applies the responses. The ids reach the LRU only
+     * once it commits, a rolled back batch is looked up again when it is delivered again
+     */
+    public void markProcessed(List<? extends OrderResponse> responses) {
+        var processedAt = ZonedDateTime.now(ZoneId.of(ZONE_DATETIME_UTC));
+        List<ProcessedMessage> processedMessages = new ArrayList<>(responses.size());
+        for (OrderResponse response : responses) {
+            processedMessages.add(ProcessedMessage.builder()
+                    .id(UUID.fromString(response.getId()))
+                    .sagaId(UUID.fromString(response.getSagaId()))
+                    .processedAt(processedAt)
+                    .build());
+        }
+        processedMessageRepository.saveAll(processedMessages);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(processedMessages);
+                }
+            });
+        } else {
+            remember(processedMessages);
+        }
+    }
+
+    private void remember(List<ProcessedMessage> processedMessages) {
+        processedMessages.forEach(processedMessage -> recentlyProcessed.put(processedMessage.getId(), Boolean.TRUE));
+    }
+}
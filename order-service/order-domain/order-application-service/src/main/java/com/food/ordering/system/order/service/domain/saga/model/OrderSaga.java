@@ -0,0 +1,23 @@
+package com.food.ordering.system.order.service.domain.saga.model;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * Last step reached by the saga of an order and when it was reached
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderSaga {
+    private final UUID sagaId;
+    private final UUID orderId;
+    private final SagaStatus sagaStatus;
+    private final OrderStatus orderStatus;
+    private final ZonedDateTime updatedAt;
+}
@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.domain.saga.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * Id of a response already applied, stored in the transaction that applied it
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ProcessedMessage {
+    private final UUID id;
+    private final UUID sagaId;
+    private final ZonedDateTime processedAt;
+}
@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.domain.saga.model;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+
+public enum SagaStatus {
+    STARTED, PROCESSING, SUCCEEDED, COMPENSATING, COMPENSATED;
+
+    /**
+     * Every order status is one step of the saga
+     */
+    public static SagaStatus of(OrderStatus orderStatus) {
+        return switch (orderStatus) {
+            case PENDING -> STARTED;
+            case PAID -> PROCESSING;
+            case APPROVED -> SUCCEEDED;
+            case CANCELLING -> COMPENSATING;
+            case CANCELLED -> COMPENSATED;
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.food.ordering.system.order.service.domain.saga.scheduler;
+
+import com.food.ordering.system.order.service.domain.config.OrderSagaConfigData;
+import com.food.ordering.system.order.service.domain.utils.MessageLogger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.SAGA_TIMEOUTS_SWEPT;
+
+/**
+ * Sweeps timed out sagas in bounded batches, the rest is left for the next run. Several nodes
+ * can sweep at the same time because claimed sagas are skipped by the others
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderSagaTimeoutScheduler {
+
+    private static final MessageLogger log = MessageLogger.getLogger(OrderSagaTimeoutScheduler.class);
+
+    private final OrderSagaTimeoutSweeper orderSagaTimeoutSweeper;
+    private final OrderSagaConfigData orderSagaConfigData;
+
+    @Scheduled(fixedDelayString = "${order-saga-config.sweep-fixed-delay-ms:60000}",
+            initialDelayString = "${order-saga-config.sweep-initial-delay-ms:30000}")
+    public void sweepTimedOutSagas() {
+        int swept = 0;
+        int claimed;
+        int batches = 0;
+        do {
+            claimed = orderSagaTimeoutSweeper.sweepBatch();
+            swept += claimed;
+            batches++;
+        } while (claimed == orderSagaConfigData.getSweepBatchSize() && batches < orderSagaConfigData.getSweepMaxBatches());
+        if (swept > 0) {
+            log.info(SAGA_TIMEOUTS_SWEPT, swept, batches);
+        }
+    }
+}
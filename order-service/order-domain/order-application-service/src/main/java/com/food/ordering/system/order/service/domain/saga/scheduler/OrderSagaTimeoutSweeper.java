@@ -0,0 +1,132 @@
+package com.food.ordering.system.order.service.domain.saga.scheduler;
+
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.config.OrderSagaConfigData;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.outbox.OrderOutboxHelper;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderSagaRepository;
+import com.food.ordering.system.order.service.domain.saga.OrderSagaHelper;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSaga;
+import com.food.ordering.system.order.service.domain.saga.model.SagaStatus;
+import com.food.ordering.system.order.service.domain.utils.MessageLogger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_RESPONSE_ORDER_NOT_FOUND;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.SAGA_APPROVAL_TIMED_OUT;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.SAGA_TIMEOUT_BATCH_PROCESSED;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ZONE_DATETIME_UTC;
+
+@Component
+@RequiredArgsConstructor
+public class OrderSagaTimeoutSweeper {
+
+    private static final MessageLogger log = MessageLogger.getLogger(OrderSagaTimeoutSweeper.class);
+
+    private final OrderSagaRepository orderSagaRepository;
+    private final OrderRepository orderRepository;
+    private final OrderDomainService orderDomainService;
+    private final OrderSagaHelper orderSagaHelper;
+    private final OrderOutboxHelper orderOutboxHelper;
+    private final OrderDataMapper orderDataMapper;
+    private final OrderSagaConfigData orderSagaConfigData;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * Claims the oldest paid sagas whose restaurant approval timed out, a range scan of the
+     * saga status and update date index. Their orders start cancelling and the payment cancel
+     * requests are saved to the outbox. A saga whose order already moved on only gets its step
+     * updated. A saga whose order is missing or was changed meanwhile by another transaction is
+     * postponed: its update date is moved to now, so it is claimed again after another timeout
+     * instead of by the next batch
+     *
+     * @return number of claimed sagas
+     */
+    @Transactional
+    public int sweepBatch() {
+        var now = ZonedDateTime.now(ZoneId.of(ZONE_DATETIME_UTC));
+        List<OrderSaga> orderSagas = orderSagaRepository.claimTimedOut(SagaStatus.PROCESSING,
+                now.minusMinutes(orderSagaConfigData.getApprovalTimeoutMinutes()),
+                orderSagaConfigData.getSweepBatchSize());
+        if (orderSagas.isEmpty()) {
+            return 0;
+        }
+        Map<OrderId, Order> orders = new HashMap<>();
+        for (Order order : orderRepository.findByIds(orderSagas.stream()
+                .map(orderSaga -> new OrderId(orderSaga.getOrderId()))
+                .toList())) {
+            orders.put(order.getId(), order);
+        }
+
+        Map<OrderCancelledEvent, OrderSaga> cancelledEvents = new LinkedHashMap<>();
+        List<OrderSaga> sagaSteps = new ArrayList<>();
+        int postponed = 0;
+        for (OrderSaga orderSaga : orderSagas) {
+            var order = orders.get(new OrderId(orderSaga.getOrderId()));
+            if (order == null) {
+                log.warn(ORDER_RESPONSE_ORDER_NOT_FOUND, orderSaga.getOrderId(), orderSaga.getSagaId());
+                sagaSteps.add(postpone(orderSaga, now));
+                postponed++;
+            } else if (order.getOrderStatus() == OrderStatus.PAID) {
+                cancelledEvents.put(orderDomainService.cancelOrderPayment(order, new ArrayList<>(List.of(
+                        String.format(SAGA_APPROVAL_TIMED_OUT, orderSagaConfigData.getApprovalTimeoutMinutes())))),
+                        orderSaga);
+            } else {
+                sagaSteps.add(orderSagaHelper.sagaStep(orderSaga.getSagaId(), order, now));
+            }
+        }
+
+        var conflicting = cancelledEvents.isEmpty() ? new HashSet<OrderId>() : new HashSet<>(orderRepository
+                .updateAll(cancelledEvents.keySet().stream().map(OrderCancelledEvent::getOrder).toList()));
+        List<OrderOutboxMessage> paymentOutboxMessages = new ArrayList<>(cancelledEvents.size());
+        List<OrderCancelledEvent> compensated = new ArrayList<>(cancelledEvents.size());
+        for (Map.Entry<OrderCancelledEvent, OrderSaga> cancelledEvent : cancelledEvents.entrySet()) {
+            var orderCancelledEvent = cancelledEvent.getKey();
+            var orderSaga = cancelledEvent.getValue();
+            if (conflicting.contains(orderCancelledEvent.getOrder().getId())) {
+                sagaSteps.add(postpone(orderSaga, now));
+                postponed++;
+            } else {
+                paymentOutboxMessages.add(orderOutboxHelper.paymentOutboxMessage(
+                        orderDataMapper.orderCancelledEventToOrderPaymentEventPayload(orderCancelledEvent),
+                        orderSaga.getSagaId()));
+                sagaSteps.add(orderSagaHelper.sagaStep(orderSaga.getSagaId(), orderCancelledEvent.getOrder(), now));
+                compensated.add(orderCancelledEvent);
+            }
+        }
+        if (!paymentOutboxMessages.isEmpty()) {
+            orderOutboxHelper.saveOutboxMessages(paymentOutboxMessages);
+        }
+        orderSagaHelper.updateSagas(sagaSteps);
+        compensated.forEach(applicationEventPublisher::publishEvent);
+        log.info(SAGA_TIMEOUT_BATCH_PROCESSED, orderSagas.size(), compensated.size(), postponed);
+        return orderSagas.size();
+    }
+
+    private OrderSaga postpone(OrderSaga orderSaga, ZonedDateTime now) {
+        return OrderSaga.builder()
+                .sagaId(orderSaga.getSagaId())
+                .orderId(orderSaga.getOrderId())
+                .sagaStatus(orderSaga.getSagaStatus())
+                .orderStatus(orderSaga.getOrderStatus())
+                .updatedAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.food.ordering.system.order.service.domain.saga.scheduler;
+
+import com.food.ordering.system.order.service.domain.config.ProcessedMessageConfigData;
+import com.food.ordering.system.order.service.domain.ports.output.repository.ProcessedMessageRepository;
+import com.food.ordering.system.order.service.domain.utils.MessageLogger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.PROCESSED_MESSAGES_DELETED;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ZONE_DATETIME_UTC;
+
+/**
+ * Keeps the processed message table to the ids that can still be delivered again
+ */
+@Component
+@RequiredArgsConstructor
+public class ProcessedMessageCleanerScheduler {
+
+    private static final MessageLogger log = MessageLogger.getLogger(ProcessedMessageCleanerScheduler.class);
+
+    private final ProcessedMessageRepository processedMessageRepository;
+    private final ProcessedMessageConfigData processedMessageConfigData;
+
+    @Transactional
+    @Scheduled(cron = "${processed-message-config.cleaner-cron:0 30 * * * *}")
+    public void deleteExpiredProcessedMessages() {
+        var processedBefore = ZonedDateTime.now(ZoneId.of(ZONE_DATETIME_UTC))
+                .minusHours(processedMessageConfigData.getRetentionHours());
+        int deleted = processedMessageRepository.deleteByProcessedAtBefore(processedBefore);
+        if (deleted > 0) {
+            log.info(PROCESSED_MESSAGES_DELETED, deleted);
+        }
+    }
+}
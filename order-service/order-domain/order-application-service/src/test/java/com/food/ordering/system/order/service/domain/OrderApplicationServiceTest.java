@@ -1,44 +1,99 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.food.ordering.system.domain.valueobject.CustomerId;
 import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
 import com.food.ordering.system.domain.valueobject.OrderId;
 import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
 import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.config.OrderCreateConfigData;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResult;
 import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
 import com.food.ordering.system.order.service.domain.dto.create.OrderItem;
+import com.food.ordering.system.order.service.domain.dto.export.ExportOrdersQuery;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportFormat;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportItem;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportRecord;
+import com.food.ordering.system.order.service.domain.dto.list.ListOrdersQuery;
+import com.food.ordering.system.order.service.domain.dto.list.OrderCursor;
+import com.food.ordering.system.order.service.domain.dto.list.OrderSummary;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.entity.Customer;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Product;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessageType;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderSagaRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import com.food.ordering.system.order.service.domain.saga.OrderConflictRetryExecutor;
+import com.food.ordering.system.order.service.domain.saga.model.OrderSaga;
+import com.food.ordering.system.order.service.domain.saga.model.SagaStatus;
+import com.food.ordering.system.order.service.domain.saga.scheduler.OrderSagaTimeoutSweeper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.CUSTOMER_NOT_FOUND;
 import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ITEM_PRICE_NOT_VALID_FOR_PRODUCTS;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_BATCH_SIZE_NOT_VALID;
 import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_CREATED_SUCCESSFULLY;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_EXPORT_RANGE_NOT_VALID;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.PRODUCT_NOT_FOUND_IN_RESTAURANT;
 import static com.food.ordering.system.order.service.domain.utils.MessageConstants.RESTAURANT_IS_NOT_ACTIVE;
 import static com.food.ordering.system.order.service.domain.utils.MessageConstants.TOTAL_PRICE_NOT_EQUAL_TO_ITEMS_PRICE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -46,7 +101,9 @@ import static org.mockito.Mockito.when;
  * {@link TestInstance} to create a single instance
  */
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
-@SpringBootTest(classes = OrderTestConfiguration.class)
+@AutoConfigureObservability
+@SpringBootTest(classes = OrderTestConfiguration.class,
+        properties = "management.tracing.sampling.probability=1.0")
 class OrderApplicationServiceTest {
 
     @Autowired
@@ -62,6 +119,28 @@ class OrderApplicationServiceTest {
     private CustomerRepository customerRepository;
     @Autowired
     private RestaurantRepository restaurantRepository;
+    @Autowired
+    private OrderOutboxRepository orderOutboxRepository;
+    @Autowired
+    private PaymentResponseMessageListener paymentResponseMessageListener;
+    @Autowired
+    private RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener;
+    @Autowired
+    private OrderConflictRetryExecutor orderConflictRetryExecutor;
+    @Autowired
+    private OrderSagaRepository orderSagaRepository;
+    @Autowired
+    private OrderSagaTimeoutSweeper orderSagaTimeoutSweeper;
+    @Autowired
+    private OrderCreateConfigData orderCreateConfigData;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+    @Autowired
+    private SdkTracerProvider sdkTracerProvider;
 
     private CreateOrderCommand createOrderCommand;
     private CreateOrderCommand createOrderCommandWrongPrice;
@@ -102,9 +181,8 @@ class OrderApplicationServiceTest {
                 .active(true)
                 .restaurantId(new RestaurantId(RESTAURANT_ID))
                 .build();
-
-        var restaurantDB = orderDataMapper.createOrderCommandToRestaurant(createOrderCommand);
-        when(restaurantRepository.findRestaurant(restaurantDB)).thenReturn(Optional.of(restaurant));
+        when(restaurantRepository.findRestaurant(new RestaurantId(RESTAURANT_ID))).thenReturn(Optional.of(restaurant));
+        when(orderRepository.updateAll(any())).thenReturn(List.of());
     }
 
     @Test
@@ -115,6 +193,331 @@ class OrderApplicationServiceTest {
         assertNotNull(actualResponse.getOrderTrackingId());
     }
 
+    @Test
+    void createOrder_whenValidInput_thenPaymentRequestSavedInOutbox() {
+        clearInvocations(orderOutboxRepository);
+        orderApplicationService.createOrder(createOrderCommand);
+
+        ArgumentCaptor<OrderOutboxMessage> outboxMessage = ArgumentCaptor.forClass(OrderOutboxMessage.class);
+        verify(orderOutboxRepository).save(outboxMessage.capture());
+        assertEquals(OrderOutboxMessageType.PAYMENT_REQUEST, outboxMessage.getValue().getType());
+        assertEquals(OutboxStatus.STARTED, outboxMessage.getValue().getOutboxStatus());
+        assertNotNull(outboxMessage.getValue().getPayload());
+    }
+
+    @Test
+    void createOrder_whenValidInput_thenStepsTimedAndTransitionCounted() {
+        long saves = meterRegistry.get("order.create.step").tag("step", "save").timer().count();
+        double pending = meterRegistry.get("order.transitions").tag("status", "PENDING").counter().count();
+
+        orderApplicationService.createOrder(createOrderCommand);
+
+        assertEquals(saves + 1, meterRegistry.get("order.create.step").tag("step", "save").timer().count());
+        assertEquals(pending + 1, meterRegistry.get("order.transitions").tag("status", "PENDING").counter().count());
+        Stream.of("customer-check", "restaurant-check", "validation").forEach(step ->
+                assertTrue(meterRegistry.get("order.create.step").tag("step", step).timer().count() > 0));
+    }
+
+    @Test
+    void createOrder_whenTraced_thenTraceContextSavedWithPaymentRequest() {
+        clearInvocations(orderOutboxRepository);
+        sdkTracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+        spanExporter.reset();
+        orderApplicationService.createOrder(createOrderCommand);
+        sdkTracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+
+        SpanData serviceSpan = spanExporter.getFinishedSpanItems().stream()
+                .filter(span -> span.getName().contains("create-order"))
+                .findFirst()
+                .orElseThrow();
+        ArgumentCaptor<OrderOutboxMessage> outboxMessage = ArgumentCaptor.forClass(OrderOutboxMessage.class);
+        verify(orderOutboxRepository).save(outboxMessage.capture());
+        assertTrue(outboxMessage.getValue().getTraceContext().contains(serviceSpan.getTraceId()));
+    }
+
+    @Test
+    void trackOrder_whenOrderJustCreated_thenServedFromCache() {
+        var createOrderResponse = orderApplicationService.createOrder(createOrderCommand);
+        clearInvocations(orderRepository);
+
+        var trackOrderResponse = orderApplicationService.trackOrder(TrackOrderQuery.builder()
+                .orderTrackingId(createOrderResponse.getOrderTrackingId())
+                .build());
+        assertEquals(OrderStatus.PENDING, trackOrderResponse.getOrderStatus());
+        verify(orderRepository, never()).findByTrackingId(any());
+    }
+
+    @Test
+    void createOrders_whenOneCommandIsInvalid_thenOnlyValidOrdersAreSaved() {
+        clearInvocations(orderRepository, orderOutboxRepository);
+        List<CreateOrderResult> results = orderApplicationService.createOrders(
+                List.of(createOrderCommand, createOrderCommandWrongPrice, validOrderCommand()));
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isCreated());
+        assertFalse(results.get(1).isCreated());
+        assertEquals(String.format(TOTAL_PRICE_NOT_EQUAL_TO_ITEMS_PRICE, INVALID_TOTAL_PRICE, EXPECTED_TOTAL_PRICE),
+                results.get(1).getMessage());
+        assertTrue(results.get(2).isCreated());
+        verify(orderRepository).saveAll(argThat(orders -> orders.size() == 2));
+        verify(orderOutboxRepository).saveAll(argThat(messages -> messages.size() == 2));
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void createOrders_whenBatchTooLarge_thenThrowOrderDomainException() {
+        clearInvocations(orderRepository, orderOutboxRepository);
+        List<CreateOrderCommand> createOrderCommands =
+                Collections.nCopies(orderCreateConfigData.getMaxBatchSize() + 1, createOrderCommand);
+
+        OrderDomainException orderDomainException = assertThrows(OrderDomainException.class,
+                () -> orderApplicationService.createOrders(createOrderCommands));
+        assertEquals(String.format(ORDER_BATCH_SIZE_NOT_VALID, orderCreateConfigData.getMaxBatchSize()),
+                orderDomainException.getMessage());
+        verify(orderRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void paymentResponsesReceived_whenBatchOfResponses_thenOrdersUpdatedInOneBatch() {
+        Order paidOrder = orderDataMapper.createOrderCommandToOrder(validOrderCommand());
+        paidOrder.initializeOrder();
+        Order failedOrder = orderDataMapper.createOrderCommandToOrder(validOrderCommand());
+        failedOrder.initializeOrder();
+        when(orderRepository.findByIds(any())).thenReturn(List.of(paidOrder, failedOrder));
+        clearInvocations(orderOutboxRepository);
+
+        paymentResponseMessageListener.paymentResponsesReceived(List.of(
+                samplePaymentResponse(paidOrder.getId().getValue(), PaymentStatus.COMPLETED),
+                samplePaymentResponse(failedOrder.getId().getValue(), PaymentStatus.FAILED),
+                samplePaymentResponse(paidOrder.getId().getValue(), PaymentStatus.COMPLETED),
+                samplePaymentResponse(UUID.randomUUID(), PaymentStatus.COMPLETED)));
+
+        assertEquals(OrderStatus.PAID, paidOrder.getOrderStatus());
+        assertEquals(OrderStatus.CANCELLED, failedOrder.getOrderStatus());
+        verify(orderRepository).updateAll(List.of(paidOrder, failedOrder));
+        verify(orderOutboxRepository).saveAll(argThat(messages -> messages.size() == 1 &&
+                messages.get(0).getType() == OrderOutboxMessageType.RESTAURANT_APPROVAL_REQUEST &&
+                messages.get(0).getOrderId().equals(paidOrder.getId().getValue())));
+    }
+
+    @Test
+    void approvalResponsesReceived_whenOrderRejected_thenPaymentCancelSavedInOutbox() {
+        Order approvedOrder = orderDataMapper.createOrderCommandToOrder(validOrderCommand());
+        approvedOrder.initializeOrder();
+        approvedOrder.pay();
+        Order rejectedOrder = orderDataMapper.createOrderCommandToOrder(validOrderCommand());
+        rejectedOrder.initializeOrder();
+        rejectedOrder.pay();
+        when(orderRepository.findByIds(any())).thenReturn(List.of(approvedOrder, rejectedOrder));
+        clearInvocations(orderOutboxRepository);
+
+        restaurantApprovalResponseMessageListener.approvalResponsesReceived(List.of(
+                sampleApprovalResponse(approvedOrder.getId().getValue(), OrderApprovalStatus.APPROVED),
+                sampleApprovalResponse(rejectedOrder.getId().getValue(), OrderApprovalStatus.REJECTED)));
+
+        assertEquals(OrderStatus.APPROVED, approvedOrder.getOrderStatus());
+        assertEquals(OrderStatus.CANCELLING, rejectedOrder.getOrderStatus());
+        verify(orderRepository).updateAll(List.of(approvedOrder, rejectedOrder));
+        verify(orderOutboxRepository).saveAll(argThat(messages -> messages.size() == 1 &&
+                messages.get(0).getType() == OrderOutboxMessageType.PAYMENT_REQUEST &&
+                messages.get(0).getOrderId().equals(rejectedOrder.getId().getValue())));
+    }
+
+    @Test
+    void paymentResponsesReceived_whenResponseDeliveredAgain_thenOrdersNotLoadedAgain() {
+        Order order = orderDataMapper.createOrderCommandToOrder(validOrderCommand());
+        order.initializeOrder();
+        when(orderRepository.findByIds(any())).thenReturn(List.of(order));
+        var paymentResponse = samplePaymentResponse(order.getId().getValue(), PaymentStatus.COMPLETED);
+        clearInvocations(orderRepository);
+
+        paymentResponseMessageListener.paymentResponsesReceived(List.of(paymentResponse, paymentResponse));
+        paymentResponseMessageListener.paymentResponsesReceived(List.of(paymentResponse));
+
+        assertEquals(OrderStatus.PAID, order.getOrderStatus());
+        verify(orderRepository).findByIds(any());
+        verify(orderRepository).updateAll(List.of(order));
+    }
+
+    @Test
+    void paymentResponsesReceived_whenVersionConflict_thenOrderReloadedAndPaid() {
+        Order staleOrder = orderDataMapper.createOrderCommandToOrder(validOrderCommand());
+        staleOrder.initializeOrder();
+        Order currentOrder = Order.builder()
+                .id(staleOrder.getId())
+                .trackingId(staleOrder.getTrackingId())
+                .customerId(staleOrder.getCustomerId())
+                .restaurantId(staleOrder.getRestaurantId())
+                .price(staleOrder.getPrice())
+                .items(staleOrder.getItems())
+                .orderStatus(OrderStatus.PENDING)
+                .version(1L)
+                .build();
+        when(orderRepository.findByIds(any())).thenReturn(List.of(staleOrder), List.of(currentOrder));
+        when(orderRepository.updateAll(any())).thenReturn(List.of(staleOrder.getId()), List.of());
+        long conflicts = orderConflictRetryExecutor.stats().getConflicts();
+        clearInvocations(orderRepository);
+
+        paymentResponseMessageListener.paymentResponsesReceived(List.of(
+                samplePaymentResponse(staleOrder.getId().getValue(), PaymentStatus.COMPLETED)));
+
+        assertEquals(OrderStatus.PAID, currentOrder.getOrderStatus());
+        assertEquals(conflicts + 1, orderConflictRetryExecutor.stats().getConflicts());
+        verify(orderRepository).updateAll(List.of(currentOrder));
+        verify(orderRepository, times(2)).findByIds(any());
+    }
+
+    @Test
+    void sweepBatch_whenApprovalTimedOut_thenPaymentCancelSavedInOutbox() {
+        Order paidOrder = orderDataMapper.createOrderCommandToOrder(validOrderCommand());
+        paidOrder.initializeOrder();
+        paidOrder.pay();
+        OrderSaga orderSaga = OrderSaga.builder()
+                .sagaId(UUID.randomUUID())
+                .orderId(paidOrder.getId().getValue())
+                .sagaStatus(SagaStatus.PROCESSING)
+                .orderStatus(OrderStatus.PAID)
+                .updatedAt(ZonedDateTime.now().minusHours(1))
+                .build();
+        when(orderSagaRepository.claimTimedOut(any(), any(), any(Integer.class))).thenReturn(List.of(orderSaga));
+        when(orderRepository.findByIds(any())).thenReturn(List.of(paidOrder));
+        clearInvocations(orderOutboxRepository, orderSagaRepository);
+
+        assertEquals(1, orderSagaTimeoutSweeper.sweepBatch());
+
+        assertEquals(OrderStatus.CANCELLING, paidOrder.getOrderStatus());
+        verify(orderOutboxRepository).saveAll(argThat(messages -> messages.size() == 1 &&
+                messages.get(0).getType() == OrderOutboxMessageType.PAYMENT_REQUEST &&
+                messages.get(0).getSagaId().equals(orderSaga.getSagaId())));
+        verify(orderSagaRepository).updateAll(argThat(sagas -> sagas.size() == 1 &&
+                sagas.get(0).getSagaStatus() == SagaStatus.COMPENSATING));
+    }
+
+    @Test
+    void sweepBatch_whenOrderMissingOrConflicting_thenSagaPostponed() {
+        Order conflictingOrder = orderDataMapper.createOrderCommandToOrder(validOrderCommand());
+        conflictingOrder.initializeOrder();
+        conflictingOrder.pay();
+        ZonedDateTime timedOutAt = ZonedDateTime.now().minusHours(1);
+        List<OrderSaga> orderSagas = Stream.of(UUID.randomUUID(), conflictingOrder.getId().getValue())
+                .map(orderId -> OrderSaga.builder()
+                        .sagaId(UUID.randomUUID())
+                        .orderId(orderId)
+                        .sagaStatus(SagaStatus.PROCESSING)
+                        .orderStatus(OrderStatus.PAID)
+                        .updatedAt(timedOutAt)
+                        .build())
+                .toList();
+        when(orderSagaRepository.claimTimedOut(any(), any(), any(Integer.class))).thenReturn(orderSagas);
+        when(orderRepository.findByIds(any())).thenReturn(List.of(conflictingOrder));
+        when(orderRepository.updateAll(any())).thenReturn(List.of(conflictingOrder.getId()));
+        clearInvocations(orderOutboxRepository, orderSagaRepository);
+
+        assertEquals(2, orderSagaTimeoutSweeper.sweepBatch());
+
+        verify(orderOutboxRepository, never()).saveAll(any());
+        verify(orderSagaRepository).updateAll(argThat(sagas -> sagas.size() == 2 &&
+                sagas.stream().allMatch(saga -> saga.getSagaStatus() == SagaStatus.PROCESSING &&
+                        saga.getUpdatedAt().isAfter(timedOutAt))));
+    }
+
+    @Test
+    void listOrders_whenMoreOrdersThanPageSize_thenPageListedWithNextCursor() {
+        ZonedDateTime now = ZonedDateTime.now();
+        List<OrderSummary> orderSummaries = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            orderSummaries.add(OrderSummary.builder()
+                    .orderId(UUID.randomUUID())
+                    .customerId(CUSTOMER_ID)
+                    .orderStatus(OrderStatus.APPROVED)
+                    .createdAt(now.minusMinutes(i))
+                    .build());
+        }
+        OrderCursor after = new OrderCursor(now.plusMinutes(1), UUID.randomUUID());
+        when(orderRepository.findCustomerOrderSummaries(any(), any(), any(), anyInt()))
+                .thenReturn(orderSummaries.stream());
+        List<OrderSummary> listed = new ArrayList<>();
+
+        String nextCursor = orderApplicationService.listOrders(ListOrdersQuery.builder()
+                        .customerId(CUSTOMER_ID)
+                        .orderStatus(OrderStatus.APPROVED)
+                        .cursor(after.encode())
+                        .pageSize(2)
+                        .build())
+                .forEachOrder(listed::add);
+
+        assertEquals(orderSummaries.subList(0, 2), listed);
+        assertEquals(orderSummaries.get(1).getOrderId(), OrderCursor.decode(nextCursor).getOrderId());
+        assertTrue(orderSummaries.get(1).getCreatedAt().isEqual(OrderCursor.decode(nextCursor).getCreatedAt()));
+        verify(orderRepository).findCustomerOrderSummaries(any(), eq(OrderStatus.APPROVED),
+                argThat(cursor -> cursor.getOrderId().equals(after.getOrderId())), eq(3));
+    }
+
+    @Test
+    void exportOrders_whenCsv_thenOneLinePerItemWithFieldsQuoted() throws Exception {
+        ZonedDateTime createdFrom = ZonedDateTime.parse("2024-03-01T00:00:00Z");
+        UUID orderId = UUID.randomUUID();
+        UUID productId = UUID.randomUUID();
+        stubExportedOrders(exportRecord(orderId, productId, createdFrom.plusHours(1)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        long exported = orderApplicationService.exportOrders(ExportOrdersQuery.builder()
+                        .createdFrom(createdFrom)
+                        .createdTo(createdFrom.plusDays(1))
+                        .format(OrderExportFormat.CSV)
+                        .build())
+                .writeTo(outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(1L, exported);
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("order_id,"));
+        assertEquals(orderId + ",," + CUSTOMER_ID + "," + RESTAURANT_ID + ",50.00,APPROVED,2024-03-01T01:00:00Z," +
+                "\"Street \"\"1\"\", floor 2\",,,2," + productId + ",10.00,3,30.00", lines[2]);
+    }
+
+    @Test
+    void exportOrders_whenNdjson_thenOneLinePerOrderWithItsItems() throws Exception {
+        ZonedDateTime createdFrom = ZonedDateTime.parse("2024-03-01T00:00:00Z");
+        UUID productId = UUID.randomUUID();
+        List<UUID> orderIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        stubExportedOrders(exportRecord(orderIds.get(0), productId, createdFrom.plusHours(1)),
+                exportRecord(orderIds.get(1), productId, createdFrom.plusHours(2)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        long exported = orderApplicationService.exportOrders(ExportOrdersQuery.builder()
+                        .createdFrom(createdFrom)
+                        .createdTo(createdFrom.plusDays(1))
+                        .format(OrderExportFormat.NDJSON)
+                        .build())
+                .writeTo(outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2L, exported);
+        assertEquals(2, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            JsonNode order = objectMapper.readTree(lines[i]);
+            assertEquals(orderIds.get(i).toString(), order.get("orderId").asText());
+            assertEquals(2, order.get("items").size());
+            assertEquals(productId.toString(), order.get("items").get(1).get("productId").asText());
+        }
+    }
+
+    @Test
+    void exportOrders_whenRangeTooLong_thenThrowOrderDomainException() {
+        ZonedDateTime createdFrom = ZonedDateTime.parse("2024-03-01T00:00:00Z");
+        clearInvocations(orderRepository);
+
+        OrderDomainException orderDomainException = assertThrows(OrderDomainException.class,
+                () -> orderApplicationService.exportOrders(ExportOrdersQuery.builder()
+                        .createdFrom(createdFrom)
+                        .createdTo(createdFrom.plusDays(32))
+                        .format(OrderExportFormat.NDJSON)
+                        .build()));
+        assertEquals(String.format(ORDER_EXPORT_RANGE_NOT_VALID, 31), orderDomainException.getMessage());
+        verify(orderRepository, never()).forEachExportedOrder(any(), any(), any(), any());
+    }
+
     @Test
     void createOrder_whenWrongTotalPrice_thenThrowOrderDomainException() {
         OrderDomainException orderDomainException = assertThrows(OrderDomainException.class,
@@ -135,6 +538,22 @@ class OrderApplicationServiceTest {
                 orderDomainException.getMessage());
     }
 
+    @Test
+    void createOrder_whenCustomerNotFound_thenThrowOrderDomainException() {
+        UUID unknownCustomerId = UUID.randomUUID();
+        var createOrderCommandUnknownCustomer = CreateOrderCommand.builder()
+                .customerId(unknownCustomerId)
+                .restaurantId(RESTAURANT_ID)
+                .address(createSampleAddress())
+                .price(EXPECTED_TOTAL_PRICE)
+                .orderItems(createOrderCommand.getOrderItems())
+                .build();
+
+        OrderDomainException orderDomainException = assertThrows(OrderDomainException.class,
+                () -> orderApplicationService.createOrder(createOrderCommandUnknownCustomer));
+        assertEquals(String.format(CUSTOMER_NOT_FOUND, unknownCustomerId), orderDomainException.getMessage());
+    }
+
     @Test
     void createOrder_whenInactiveRestaurant_thenThrowOrderDomainException() {
         Restaurant restaurant = new Restaurant.Builder(
@@ -143,9 +562,7 @@ class OrderApplicationServiceTest {
                 .active(false)
                 .restaurantId(new RestaurantId(RESTAURANT_ID))
                 .build();
-        var restaurantDB = orderDataMapper.createOrderCommandToRestaurant(createOrderCommand);
-        when(restaurantRepository.findRestaurant(restaurantDB)).thenReturn(Optional.of(restaurant));
-
+        when(restaurantRepository.findRestaurant(new RestaurantId(RESTAURANT_ID))).thenReturn(Optional.of(restaurant));
 
         OrderDomainException orderDomainException = assertThrows(OrderDomainException.class,
                 () -> orderApplicationService.createOrder(createOrderCommandWrongProductPrice));
@@ -153,6 +570,76 @@ class OrderApplicationServiceTest {
                 orderDomainException.getMessage());
     }
 
+    @Test
+    void createOrder_whenProductNotInRestaurant_thenThrowOrderDomainException() {
+        var unknownProductId = UUID.randomUUID();
+        var createOrderCommandUnknownProduct = CreateOrderCommand.builder()
+                .customerId(CUSTOMER_ID)
+                .restaurantId(RESTAURANT_ID)
+                .address(createSampleAddress())
+                .price(EXPECTED_PRODUCT_PRICE.add(EXPECTED_PRODUCT_PRICE))
+                .orderItems(List.of(
+                        createSampleProduct(1, EXPECTED_PRODUCT_PRICE),
+                        OrderItem.builder()
+                                .productId(unknownProductId)
+                                .quantity(1)
+                                .price(EXPECTED_PRODUCT_PRICE)
+                                .subtotal(EXPECTED_PRODUCT_PRICE)
+                                .build()))
+                .build();
+
+        OrderDomainException orderDomainException = assertThrows(OrderDomainException.class,
+                () -> orderApplicationService.createOrder(createOrderCommandUnknownProduct));
+        assertEquals(String.format(PRODUCT_NOT_FOUND_IN_RESTAURANT, unknownProductId, RESTAURANT_ID),
+                orderDomainException.getMessage());
+    }
+
+    private OrderExportRecord exportRecord(UUID orderId, UUID productId, ZonedDateTime createdAt) {
+        return OrderExportRecord.builder()
+                .orderId(orderId)
+                .customerId(CUSTOMER_ID)
+                .restaurantId(RESTAURANT_ID)
+                .price(new BigDecimal("50.00"))
+                .orderStatus(OrderStatus.APPROVED)
+                .createdAt(createdAt)
+                .street("Street \"1\", floor 2")
+                .items(List.of(new OrderExportItem(1L, productId, new BigDecimal("20.00"), 1, new BigDecimal("20.00")),
+                        new OrderExportItem(2L, productId, new BigDecimal("10.00"), 3, new BigDecimal("30.00"))))
+                .build();
+    }
+
+    private void stubExportedOrders(OrderExportRecord... orderExportRecords) {
+        doAnswer(invocation -> {
+            Consumer<OrderExportRecord> orderConsumer = invocation.getArgument(3);
+            Stream.of(orderExportRecords).forEach(orderConsumer);
+            return (long) orderExportRecords.length;
+        }).when(orderRepository).forEachExportedOrder(any(), any(), any(), any());
+    }
+
+    private PaymentResponse samplePaymentResponse(UUID orderId, PaymentStatus paymentStatus) {
+        return PaymentResponse.builder()
+                .id(UUID.randomUUID().toString())
+                .sagaId(UUID.randomUUID().toString())
+                .orderId(orderId.toString())
+                .paymentId(UUID.randomUUID().toString())
+                .customerId(CUSTOMER_ID.toString())
+                .price(EXPECTED_TOTAL_PRICE)
+                .paymentStatus(paymentStatus)
+                .failureMessages(new ArrayList<>())
+                .build();
+    }
+
+    private RestaurantApprovalResponse sampleApprovalResponse(UUID orderId, OrderApprovalStatus orderApprovalStatus) {
+        return RestaurantApprovalResponse.builder()
+                .id(UUID.randomUUID().toString())
+                .sagaId(UUID.randomUUID().toString())
+                .orderId(orderId.toString())
+                .restaurantId(RESTAURANT_ID.toString())
+                .orderApprovalStatus(orderApprovalStatus)
+                .failureMessages(new ArrayList<>(List.of("Product is not available")))
+                .build();
+    }
+
     private Product sampleProduct(String name) {
         return new Product(
                 new ProductId(PRODUCT_ID),
@@ -0,0 +1,109 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.config.OrderCreateConfigData;
+import com.food.ordering.system.order.service.domain.config.VirtualThreadConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.metrics.OrderMetrics;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.CUSTOMER_CHECK_REJECTED;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.CUSTOMER_CHECK_TIMED_OUT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderCreateCheckerTest {
+
+    private CustomerRepository customerRepository;
+    private OrderCreateChecker orderCreateChecker;
+
+    @BeforeEach
+    void init() {
+        customerRepository = mock(CustomerRepository.class);
+        RestaurantRepository restaurantRepository = mock(RestaurantRepository.class);
+        when(restaurantRepository.findRestaurant(any())).thenReturn(Optional.empty());
+        OrderCreateConfigData orderCreateConfigData = new OrderCreateConfigData();
+        orderCreateConfigData.setCheckTimeoutMs(50L);
+        orderCreateConfigData.setCheckThreads(1);
+        orderCreateConfigData.setCheckQueueCapacity(1);
+        orderCreateChecker = new OrderCreateChecker(customerRepository, restaurantRepository,
+                orderCreateConfigData, new VirtualThreadConfigData(), new OrderMetrics(new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void close() {
+        orderCreateChecker.close();
+    }
+
+    @Test
+    void checkCustomerAndRestaurant_whenCustomerCheckTimesOut_thenCheckInterrupted() throws InterruptedException {
+        UUID customerId = UUID.randomUUID();
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(customerRepository.findCustomer(customerId)).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return Optional.empty();
+        });
+        CreateOrderCommand createOrderCommand = CreateOrderCommand.builder()
+                .customerId(customerId)
+                .restaurantId(UUID.randomUUID())
+                .build();
+
+        OrderDomainException orderDomainException = assertThrows(OrderDomainException.class,
+                () -> orderCreateChecker.checkCustomerAndRestaurant(createOrderCommand));
+        assertEquals(String.format(CUSTOMER_CHECK_TIMED_OUT, customerId, 50L), orderDomainException.getMessage());
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void checkCustomerAndRestaurant_whenCheckQueueFull_thenRejectedWithoutRunningCheck() {
+        AtomicBoolean released = new AtomicBoolean();
+        AtomicInteger checks = new AtomicInteger();
+        when(customerRepository.findCustomer(any())).thenAnswer(invocation -> {
+            checks.incrementAndGet();
+            while (!released.get()) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+            return Optional.empty();
+        });
+        UUID customerId = UUID.randomUUID();
+        CreateOrderCommand createOrderCommand = CreateOrderCommand.builder()
+                .customerId(customerId)
+                .restaurantId(UUID.randomUUID())
+                .build();
+        try {
+            assertThrows(OrderDomainException.class,
+                    () -> orderCreateChecker.checkCustomerAndRestaurant(createOrderCommand));
+            assertThrows(OrderDomainException.class,
+                    () -> orderCreateChecker.checkCustomerAndRestaurant(createOrderCommand));
+
+            OrderDomainException orderDomainException = assertThrows(OrderDomainException.class,
+                    () -> orderCreateChecker.checkCustomerAndRestaurant(createOrderCommand));
+
+            assertEquals(String.format(CUSTOMER_CHECK_REJECTED, customerId), orderDomainException.getMessage());
+            assertEquals(1, checks.get());
+        } finally {
+            released.set(true);
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.outbox.OrderOutboxMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCancelledPaymentRequestMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.OrderPaidRestaurantRequestMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderSagaRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.ProcessedMessageRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
 import org.mockito.Mockito;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
@@ -31,11 +38,31 @@ public class OrderTestConfiguration {
         return Mockito.mock(OrderPaidRestaurantRequestMessagePublisher.class);
     }
 
+    @Bean
+    public OrderOutboxMessagePublisher orderOutboxMessagePublisher() {
+        return Mockito.mock(OrderOutboxMessagePublisher.class);
+    }
+
+    @Bean
+    public OrderOutboxRepository orderOutboxRepository() {
+        return Mockito.mock(OrderOutboxRepository.class);
+    }
+
     @Bean
     public OrderRepository orderRepository() {
         return Mockito.mock(OrderRepository.class);
     }
 
+    @Bean
+    public OrderSagaRepository orderSagaRepository() {
+        return Mockito.mock(OrderSagaRepository.class);
+    }
+
+    @Bean
+    public ProcessedMessageRepository processedMessageRepository() {
+        return Mockito.mock(ProcessedMessageRepository.class);
+    }
+
     @Bean
     public CustomerRepository customerRepository() {
         return Mockito.mock(CustomerRepository.class);
@@ -51,4 +78,17 @@ public class OrderTestConfiguration {
         return new OrderDomainServiceImpl();
     }
 
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    /**
+     * Picked up by the tracing auto-configuration, finished spans are kept in memory
+     */
+    @Bean
+    public InMemorySpanExporter inMemorySpanExporter() {
+        return InMemorySpanExporter.create();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.food.ordering.system.order.service.domain.cache;
+
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderTrackingCacheConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderCancelCompletedEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OrderTrackingCacheTest {
+
+    private final TrackingId trackingId = new TrackingId(UUID.randomUUID());
+    private OrderTrackingCache orderTrackingCache;
+
+    @BeforeEach
+    void init() {
+        orderTrackingCache = new OrderTrackingCache(new OrderTrackingCacheConfigData(), new OrderDataMapper());
+    }
+
+    @Test
+    void onOrderEvent_whenOrderPaid_thenResponseServedWithoutLoad() {
+        orderTrackingCache.onOrderEvent(new OrderPaidEvent(order(OrderStatus.PAID, List.of()), ZonedDateTime.now()));
+
+        TrackOrderResponse response = orderTrackingCache.get(trackingId, id -> {
+            throw new IllegalStateException("loaded");
+        });
+
+        assertEquals(OrderStatus.PAID, response.getOrderStatus());
+    }
+
+    @Test
+    void onOrderEvent_whenOrderCancelled_thenEntryDroppedAndLoadedWithAllMessages() {
+        List<String> storedMessages = List.of("Restaurant rejected the order", "Payment cancelled");
+        AtomicInteger loads = new AtomicInteger();
+        orderTrackingCache.get(trackingId, id -> response(OrderStatus.CANCELLING, storedMessages.subList(0, 1), loads));
+
+        orderTrackingCache.onOrderEvent(new OrderCancelCompletedEvent(
+                order(OrderStatus.CANCELLED, storedMessages.subList(1, 2)), ZonedDateTime.now()));
+        TrackOrderResponse response = orderTrackingCache.get(trackingId,
+                id -> response(OrderStatus.CANCELLED, storedMessages, loads));
+
+        assertEquals(2, loads.get());
+        assertEquals(OrderStatus.CANCELLED, response.getOrderStatus());
+        assertEquals(storedMessages, response.getFailureMessages());
+    }
+
+    @Test
+    void get_whenEntryDroppedWhileLoading_thenLoadedResponseNotKept() {
+        AtomicInteger loads = new AtomicInteger();
+
+        TrackOrderResponse response = orderTrackingCache.get(trackingId, id -> {
+            TrackOrderResponse beforeCancel = response(OrderStatus.PAID, List.of(), loads);
+            orderTrackingCache.onOrderEvent(new OrderCancelCompletedEvent(
+                    order(OrderStatus.CANCELLING, List.of("Restaurant rejected the order")), ZonedDateTime.now()));
+            return beforeCancel;
+        });
+        orderTrackingCache.get(trackingId, id -> response(OrderStatus.CANCELLING, List.of(), loads));
+
+        assertEquals(OrderStatus.PAID, response.getOrderStatus());
+        assertEquals(2, loads.get());
+    }
+
+    private Order order(OrderStatus orderStatus, List<String> failureMessages) {
+        return Order.builder()
+                .id(new OrderId(UUID.randomUUID()))
+                .trackingId(trackingId)
+                .orderStatus(orderStatus)
+                .failureMessages(failureMessages)
+                .build();
+    }
+
+    private TrackOrderResponse response(OrderStatus orderStatus, List<String> failureMessages, AtomicInteger loads) {
+        loads.incrementAndGet();
+        return TrackOrderResponse.builder()
+                .orderTrackingId(trackingId.getValue())
+                .orderStatus(orderStatus)
+                .failureMessages(failureMessages)
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.food.ordering.system.order.service.domain.outbox.scheduler;
+
+import com.food.ordering.system.order.service.domain.config.OrderOutboxConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessageType;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.outbox.OrderOutboxMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderOutboxDrainerTest {
+
+    private OrderOutboxRepository orderOutboxRepository;
+    private OrderOutboxMessagePublisher orderOutboxMessagePublisher;
+    private OrderOutboxConfigData configData;
+    private OrderOutboxDrainer orderOutboxDrainer;
+
+    @BeforeEach
+    void init() {
+        orderOutboxRepository = mock(OrderOutboxRepository.class);
+        orderOutboxMessagePublisher = mock(OrderOutboxMessagePublisher.class);
+        configData = new OrderOutboxConfigData();
+        configData.setSendTimeoutMs(50L);
+        orderOutboxDrainer = new OrderOutboxDrainer(orderOutboxRepository, orderOutboxMessagePublisher, configData);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void drainBatch_whenSendTimesOut_thenOutcomeSavedOnceAckedInsteadOfFailedAttempt() {
+        OrderOutboxMessage acked = outboxMessage();
+        OrderOutboxMessage slow = outboxMessage();
+        CompletableFuture<Void> slowSend = new CompletableFuture<>();
+        when(orderOutboxRepository.claimBatch(eq(OutboxStatus.STARTED), anyInt(), any(), any()))
+                .thenReturn(List.of(acked, slow), List.of());
+        when(orderOutboxMessagePublisher.publish(acked)).thenReturn(CompletableFuture.completedFuture(null));
+        when(orderOutboxMessagePublisher.publish(slow)).thenReturn(slowSend);
+
+        assertEquals(2, orderOutboxDrainer.drainBatch());
+        slowSend.complete(null);
+        assertEquals(0, orderOutboxDrainer.drainBatch());
+
+        ArgumentCaptor<List<OrderOutboxMessage>> saved = ArgumentCaptor.forClass(List.class);
+        verify(orderOutboxRepository, times(2)).saveAll(saved.capture());
+        assertEquals(List.of(List.of(acked), List.of(slow)), saved.getAllValues());
+        assertEquals(OutboxStatus.COMPLETED, slow.getOutboxStatus());
+        assertEquals(0, slow.getAttempts());
+    }
+
+    @Test
+    void drainBatch_whenSendFails_thenNextAttemptBackedOffUntilFailed() {
+        OrderOutboxMessage message = outboxMessage();
+        when(orderOutboxRepository.claimBatch(eq(OutboxStatus.STARTED), anyInt(), any(), any()))
+                .thenReturn(List.of(message));
+        when(orderOutboxMessagePublisher.publish(message))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        orderOutboxDrainer.drainBatch();
+
+        assertEquals(OutboxStatus.STARTED, message.getOutboxStatus());
+        assertEquals(1, message.getAttempts());
+        assertBackoff(message, configData.getRetryBackoffMs());
+
+        for (int attempt = 2; attempt <= configData.getMaxAttempts(); attempt++) {
+            orderOutboxDrainer.drainBatch();
+        }
+
+        assertEquals(OutboxStatus.FAILED, message.getOutboxStatus());
+        assertEquals(configData.getMaxAttempts(), message.getAttempts());
+        assertBackoff(message, configData.getRetryBackoffMs() << (configData.getMaxAttempts() - 1));
+    }
+
+    private void assertBackoff(OrderOutboxMessage message, long backoffMs) {
+        long nextAttemptMs = Duration.between(message.getProcessedAt(), message.getNextAttemptAt()).toMillis();
+        assertTrue(nextAttemptMs >= backoffMs / 2 && nextAttemptMs <= backoffMs,
+                "next attempt in " + nextAttemptMs + " ms");
+    }
+
+    private OrderOutboxMessage outboxMessage() {
+        return OrderOutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .sagaId(UUID.randomUUID())
+                .orderId(UUID.randomUUID())
+                .type(OrderOutboxMessageType.PAYMENT_REQUEST)
+                .payload("{}")
+                .createdAt(ZonedDateTime.now())
+                .outboxStatus(OutboxStatus.STARTED)
+                .build();
+    }
+}
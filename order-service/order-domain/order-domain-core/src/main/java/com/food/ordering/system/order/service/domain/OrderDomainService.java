@@ -2,6 +2,8 @@ package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderApprovedEvent;
+import com.food.ordering.system.order.service.domain.event.OrderCancelCompletedEvent;
 import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
@@ -19,9 +21,9 @@ public interface OrderDomainService {
 
     OrderPaidEvent payOrder(Order order);
 
-    void approveOrder(Order order);
+    OrderApprovedEvent approveOrder(Order order);
 
     OrderCancelledEvent cancelOrderPayment(Order order, List<String> failureMessages);
 
-    void cancelOrder(Order order, List<String> failureMessages);
+    OrderCancelCompletedEvent cancelOrder(Order order, List<String> failureMessages);
 }
\ No newline at end of file
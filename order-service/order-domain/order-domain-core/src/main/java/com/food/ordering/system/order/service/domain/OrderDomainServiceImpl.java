@@ -1,12 +1,15 @@
 package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderApprovedEvent;
+import com.food.ordering.system.order.service.domain.event.OrderCancelCompletedEvent;
 import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
-import lombok.extern.slf4j.Slf4j;
+import com.food.ordering.system.order.service.domain.utils.MessageLogger;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -17,62 +20,68 @@ import static com.food.ordering.system.order.service.domain.utils.MessageConstan
 import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_CANCEL_INITIATED;
 import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_INITIATED;
 import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_PAID;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.PRODUCT_NOT_FOUND_IN_RESTAURANT;
 import static com.food.ordering.system.order.service.domain.utils.MessageConstants.RESTAURANT_IS_NOT_ACTIVE;
 import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ZONE_DATETIME_UTC;
 
-@Slf4j
 public class OrderDomainServiceImpl implements OrderDomainService {
 
+    private static final MessageLogger log = MessageLogger.getLogger(OrderDomainServiceImpl.class);
+
     @Override
     public OrderCreatedEvent validateAndInitiateOrder(Order order, Restaurant restaurant) {
         validateRestaurant(restaurant);
         setOrderProductInformation(order, restaurant);
         order.validateOrder();
         order.initializeOrder();
-        log.info(String.format(ORDER_INITIATED, order.getId().getValue()));
+        log.info(ORDER_INITIATED, order.getId().getValue());
         return new OrderCreatedEvent(order, ZonedDateTime.now(ZoneId.of(ZONE_DATETIME_UTC)));
     }
 
     @Override
     public OrderPaidEvent payOrder(Order order) {
         order.pay();
-        log.info(String.format(ORDER_PAID, order.getId().getValue()));
+        log.info(ORDER_PAID, order.getId().getValue());
         return new OrderPaidEvent(order, ZonedDateTime.now(ZoneId.of(ZONE_DATETIME_UTC)));
     }
 
     @Override
-    public void approveOrder(Order order) {
+    public OrderApprovedEvent approveOrder(Order order) {
         order.approve();
-        log.info(String.format(ORDER_APPROVED, order.getId().getValue()));
-
+        log.info(ORDER_APPROVED, order.getId().getValue());
+        return new OrderApprovedEvent(order, ZonedDateTime.now(ZoneId.of(ZONE_DATETIME_UTC)));
     }
 
     @Override
     public OrderCancelledEvent cancelOrderPayment(Order order, List<String> failureMessages) {
         order.initCancel(failureMessages);
-        log.info(String.format(ORDER_CANCEL_INITIATED, order.getId().getValue()));
+        log.info(ORDER_CANCEL_INITIATED, order.getId().getValue());
         return new OrderCancelledEvent(order, ZonedDateTime.now(ZoneId.of(ZONE_DATETIME_UTC)));
     }
 
     @Override
-    public void cancelOrder(Order order, List<String> failureMessages) {
+    public OrderCancelCompletedEvent cancelOrder(Order order, List<String> failureMessages) {
         order.cancel(failureMessages);
-        log.info(String.format(ORDER_CANCELED, order.getId().getValue()));
+        log.info(ORDER_CANCELED, order.getId().getValue());
+        return new OrderCancelCompletedEvent(order, ZonedDateTime.now(ZoneId.of(ZONE_DATETIME_UTC)));
     }
 
 
     /**
-     * TODO HashMaps for products to improve performance
+     * Products are resolved through the restaurant product index, an order item
+     * whose product is not in the menu is rejected instead of staying unpriced
      */
     private void setOrderProductInformation(Order order, Restaurant restaurant) {
-        order.getItems().forEach(orderItem -> restaurant.getProducts().forEach(restaurantProduct -> {
+        for (OrderItem orderItem : order.getItems()) {
             var orderProduct = orderItem.getProduct();
-            if (orderProduct.getId().equals(restaurantProduct.getId())) {
-                orderProduct.updateWithConfirmedNameAndPrice(
-                        restaurantProduct.getName(),
-                        restaurantProduct.getPrice());
-            }
-        }));
+            var restaurantProduct = restaurant.findProduct(orderProduct.getId())
+                    .orElseThrow(() -> new OrderDomainException(String.format(PRODUCT_NOT_FOUND_IN_RESTAURANT,
+                            orderProduct.getId().getValue(),
+                            restaurant.getId().getValue())));
+            orderProduct.updateWithConfirmedNameAndPrice(
+                    restaurantProduct.getName(),
+                    restaurantProduct.getPrice());
+        }
     }
 
     private void validateRestaurant(Restaurant restaurant) {
@@ -14,6 +14,9 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,6 +28,7 @@ import static com.food.ordering.system.order.service.domain.utils.MessageConstan
 import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ORDER_INCORRECT_STATE_FOR_INIT;
 import static com.food.ordering.system.order.service.domain.utils.MessageConstants.TOTAL_PRICE_MUST_BE_GREATER_THAN_ZERO;
 import static com.food.ordering.system.order.service.domain.utils.MessageConstants.TOTAL_PRICE_NOT_EQUAL_TO_ITEMS_PRICE;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.ZONE_DATETIME_UTC;
 
 @Getter
 @SuperBuilder
@@ -38,12 +42,25 @@ public class Order extends AggregateRoot<OrderId> {
 
     private TrackingId trackingId;
     private OrderStatus orderStatus;
+    /**
+     * Messages added since the order was loaded, appended to the stored ones when it is written.
+     * Loaded by tracking alone
+     */
     private List<String> failureMessages;
+    /**
+     * Version the order was loaded with, a write fails when the stored one changed since
+     */
+    private Long version;
+    /**
+     * Set once when the order is initialized, orders are listed by it newest first
+     */
+    private ZonedDateTime createdAt;
 
     public void initializeOrder() {
         setId(new OrderId(UUID.randomUUID()));
         trackingId = new TrackingId(UUID.randomUUID());
         orderStatus = OrderStatus.PENDING;
+        createdAt = ZonedDateTime.now(ZoneId.of(ZONE_DATETIME_UTC));
         initializeOrderItems();
     }
 
@@ -79,7 +96,7 @@ public class Order extends AggregateRoot<OrderId> {
     }
 
     public void cancel(List<String> failureMessages) {
-        if (orderStatus != OrderStatus.PENDING || orderStatus != OrderStatus.CANCELLING) {
+        if (orderStatus != OrderStatus.PENDING && orderStatus != OrderStatus.CANCELLING) {
             throw new OrderDomainException(
                     String.format(ORDER_INCORRECT_FOR_CANCEL, orderStatus.name()));
         }
@@ -87,20 +104,30 @@ public class Order extends AggregateRoot<OrderId> {
         updateFailureMessage(failureMessages);
     }
 
+    /**
+     * Empty messages are dropped
+     */
     public void updateFailureMessage(List<String> failureMessages) {
-        if (this.failureMessages != null && failureMessages != null) {
-            this.failureMessages.addAll(failureMessages.stream().filter(m -> !m.isEmpty()).toList());
+        if (failureMessages == null) {
+            return;
         }
-        if (this.failureMessages == null) {
-            this.failureMessages = failureMessages;
+        for (String failureMessage : failureMessages) {
+            if (failureMessage == null || failureMessage.isEmpty()) {
+                continue;
+            }
+            if (this.failureMessages == null) {
+                this.failureMessages = new ArrayList<>(failureMessages.size());
+            }
+            this.failureMessages.add(failureMessage);
         }
     }
 
     private void validateItemsPrice() {
-        var orderItemsTotal = items.stream().map(orderItem -> {
+        var orderItemsTotal = Money.ZERO;
+        for (OrderItem orderItem : items) {
             validateItemPrice(orderItem);
-            return orderItem.getSubTotal();
-        }).reduce(Money.ZERO, Money::add);
+            orderItemsTotal = orderItemsTotal.add(orderItem.getSubTotal());
+        }
 
         if (!price.equals(orderItemsTotal)) {
             throw new OrderDomainException(
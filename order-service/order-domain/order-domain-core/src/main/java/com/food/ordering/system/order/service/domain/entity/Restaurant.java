@@ -1,11 +1,17 @@
 package com.food.ordering.system.order.service.domain.entity;
 
 import com.food.ordering.system.domain.entity.AggregateRoot;
+import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.domain.valueobject.RestaurantId;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Getter
 @EqualsAndHashCode
@@ -13,10 +19,37 @@ public class Restaurant extends AggregateRoot<RestaurantId> {
     private final List<Product> products;
     private boolean active;
 
+    /**
+     * Built once per restaurant snapshot, so product lookups while pricing
+     * an order are O(1) instead of a scan over the whole menu
+     */
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private final Map<ProductId, Product> productIndex;
+
     private Restaurant(Builder builder) {
         setId(builder.id);
         products = builder.products;
         active = builder.active;
+        productIndex = indexProducts(builder.products);
+    }
+
+    public Optional<Product> findProduct(ProductId productId) {
+        return Optional.ofNullable(productIndex.get(productId));
+    }
+
+    /**
+     * Last product wins on duplicated ids, same as the previous linear lookup
+     */
+    private static Map<ProductId, Product> indexProducts(List<Product> products) {
+        if (products == null || products.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<ProductId, Product> index = new HashMap<>((int) (products.size() / 0.75f) + 1);
+        for (Product product : products) {
+            index.put(product.getId(), product);
+        }
+        return Collections.unmodifiableMap(index);
     }
 
     public static final class Builder {
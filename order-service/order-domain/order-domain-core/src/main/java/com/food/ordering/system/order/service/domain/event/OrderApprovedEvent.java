@@ -0,0 +1,13 @@
+package com.food.ordering.system.order.service.domain.event;
+
+import com.food.ordering.system.order.service.domain.entity.Order;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+
+@Getter
+public class OrderApprovedEvent extends OrderEvent {
+    public OrderApprovedEvent(Order order, ZonedDateTime createdAt) {
+        super(order, createdAt);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.food.ordering.system.order.service.domain.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets one call in every rate through, for logs written once per message that would otherwise
+ * log every message of a busy topic. A rate of 1 or less lets every call through
+ */
+public final class LogSampler {
+
+    private final int rate;
+    private final AtomicLong calls = new AtomicLong();
+
+    public LogSampler(int rate) {
+        this.rate = rate;
+    }
+
+    public boolean sample() {
+        return rate <= 1 || calls.getAndIncrement() % rate == 0;
+    }
+}
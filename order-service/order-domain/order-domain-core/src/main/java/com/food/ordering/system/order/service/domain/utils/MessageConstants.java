@@ -6,20 +6,41 @@ public class MessageConstants {
 
     // LOGGER ORDER SERVICE MESSAGES
     public static final String CUSTOMER_NOT_FOUND = "Could not find customer with id: %s";
+    public static final String CUSTOMER_CHECK_TIMED_OUT = "Check of customer with id: %s did not finish in %s ms";
+    public static final String CUSTOMER_CHECK_INTERRUPTED = "Check of customer with id: %s was interrupted";
+    public static final String CUSTOMER_CHECK_REJECTED = "Check of customer with id: %s rejected, too many checks are waiting";
     public static final String RESTAURANT_NOT_FOUND = "Could not find restaurant with id: %s";
+    public static final String RESTAURANT_LOAD_REJECTED = "Restaurant with id: %s could not be loaded, too many loads are waiting";
+    public static final String RESTAURANT_SNAPSHOT_LOADED = "Restaurant with id: %s loaded with version: %s and %s products";
     public static final String TRACKING_ORDER_NOT_FOUND = "Could not find tracking order with id: %s";
+    public static final String ORDER_TRACKING_CACHE_UPDATED = "Tracking cache updated for order with tracking id: %s and status: %s";
+    public static final String ORDER_TRACKING_CACHE_INVALIDATED = "Tracking cache entry dropped for order with tracking id: %s and status: %s";
 
     // LOGGER SERVICE IMPLEMENTATION MESSAGES
     public static final String ORDER_INITIATED = "Order with id: %s is initiated";
     public static final String ORDER_SAVED = "Order with id: %s is saved";
     public static final String ORDER_CREATED = "Order with id: %s is created";
+    public static final String ORDERS_CREATED = "%s of %s orders of the batch are created";
+    public static final String ORDER_COMMAND_NOT_VALID = "Order command is not valid: %s";
     public static final String ORDER_CREATED_SUCCESSFULLY = "Order created successfully";
+    public static final String ORDER_BATCH_SIZE_NOT_VALID = "A batch can have at most %s orders";
     public static final String ERROR_SAVING_ORDER = "Could not save the order";
     public static final String ORDER_PAID = "Order with id: %s is paid";
     public static final String ORDER_APPROVED = "Order with id: %s is approved";
     public static final String ORDER_CANCEL_INITIATED = "Order with id: %s is requested to cancel";
     public static final String ORDER_CANCELED = "Order with id: %s is canceled";
+    public static final String ORDER_RESPONSE_ORDER_NOT_FOUND = "Could not find order with id: %s of response with id: %s";
+    public static final String ORDER_RESPONSE_NOT_APPLIED = "Response with id: %s not applied to order with id: %s: %s";
+    public static final String ORDER_RESPONSES_APPLIED = "%s of %s responses applied to %s orders";
+    public static final String ORDER_UPDATE_CONFLICT = "%s orders changed by another transaction on attempt %s, applying their responses again";
+    public static final String ORDER_UPDATE_CONFLICT_RETRIES_EXHAUSTED = "Orders with ids: %s still changed by another transaction after %s attempts";
+    public static final String SAGA_APPROVAL_TIMED_OUT = "Order was not approved by the restaurant in %s minutes";
+    public static final String SAGA_TIMEOUT_BATCH_PROCESSED = "%s timed out sagas claimed, %s of them compensated and %s postponed";
+    public static final String SAGA_TIMEOUTS_SWEPT = "%s timed out sagas swept in %s batches";
+    public static final String PROCESSED_MESSAGES_SKIPPED = "%s of %s responses skipped, they were already processed";
+    public static final String PROCESSED_MESSAGES_DELETED = "%s expired processed messages deleted";
     public static final String RESTAURANT_IS_NOT_ACTIVE = "Restaurant with id %s is not active";
+    public static final String PRODUCT_NOT_FOUND_IN_RESTAURANT = "Product with id: %s is not available in restaurant with id: %s";
 
     // ORDER DOMAIN EXCEPTION
     public static final String ORDER_INCORRECT_FOR_PAY = "Order is not in correct state for pay operation: %s";
@@ -35,10 +56,35 @@ public class MessageConstants {
 
     public static final String ORDER_INCORRECT_STATE_FOR_INIT = "Order is not in correct state for initialization!";
 
+    // Outbox messages
+    public static final String OUTBOX_PAYLOAD_SERIALIZATION_ERROR = "Could not create %s outbox message for order id: %s";
+    public static final String OUTBOX_PAYLOAD_DESERIALIZATION_ERROR = "Could not read %s outbox message with id: %s";
+    public static final String OUTBOX_TRACE_CONTEXT_NOT_SAVED = "Could not save the trace context of %s outbox message for order id: %s";
+    public static final String OUTBOX_TRACE_CONTEXT_NOT_READ = "Could not read the trace context of %s outbox message with id: %s";
+    public static final String OUTBOX_MESSAGE_NOT_PUBLISHED = "Could not publish outbox message with id: %s and type: %s";
+    public static final String OUTBOX_MESSAGE_FAILED = "Outbox message with id: %s and type: %s FAILED after %s attempts, it is restarted by the outbox cleaner";
+    public static final String OUTBOX_BATCH_PROCESSED = "%s outbox messages claimed, %s of them could not be published and %s are still waiting for their ack";
+    public static final String OUTBOX_LATE_OUTCOMES_SAVED = "%s outbox messages completed after the send timeout saved";
+    public static final String OUTBOX_MESSAGES_PROCESSED = "%s outbox messages processed";
+    public static final String OUTBOX_DRAINER_FAILED = "Outbox drainer failed";
+    public static final String OUTBOX_MESSAGES_DELETED = "%s completed outbox messages deleted";
+    public static final String OUTBOX_MESSAGES_RESTARTED = "%s FAILED outbox messages restarted";
+
     // Kafka constant messages
-    public static final String ERROR_PRODUCER_MESSAGE = "Error on kafka producer with key: %s, message: %s and exception: %s";
-    public static final String SENDING_MESSAGE_TO_TOPIC = "Sending message: %s. to topic: %s";
+    public static final String ERROR_PRODUCER_MESSAGE = "Error on kafka producer with key: %s to topic: %s and exception: %s";
+    public static final String SENDING_MESSAGE_TO_TOPIC = "Sending message with key: %s to topic: %s";
     public static final String CLOSING_KAFKA_PRODUCER = "Closing kafka producer";
+    public static final String KAFKA_PRODUCER_TOO_MANY_IN_FLIGHT = "Too many in-flight messages, could not send message with key: %s to topic: %s";
+    public static final String KAFKA_PRODUCER_INTERRUPTED = "Interrupted while waiting to send message with key: %s to topic: %s";
+    public static final String PAYMENT_RESPONSES_RECEIVED = "%s payment responses received with keys: %s, partitions: %s and offsets: %s";
+    public static final String RESTAURANT_APPROVAL_RESPONSES_RECEIVED = "%s restaurant approval responses received with keys: %s, partitions: %s and offsets: %s";
+
+    public static final String ORDER_LIST_OWNER_NOT_VALID = "Orders are listed either by customer id or by restaurant id";
+    public static final String ORDER_LIST_PAGE_SIZE_NOT_VALID = "Page size must be between 1 and %s";
+    public static final String ORDER_LIST_CURSOR_NOT_VALID = "Cursor %s is not valid";
+    public static final String ORDER_EXPORT_RANGE_NOT_VALID = "Export range must end after it starts and span at most %s days";
+    public static final String ORDERS_EXPORTED = "%s orders exported created from %s to %s of restaurant: %s";
+
     private MessageConstants() {
     }
 }
\ No newline at end of file
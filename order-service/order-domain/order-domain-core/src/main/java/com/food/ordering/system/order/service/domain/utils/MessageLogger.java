@@ -0,0 +1,101 @@
+package com.food.ordering.system.order.service.domain.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Logs the {@link MessageConstants} formats with their arguments. Nothing is formatted unless the
+ * level is enabled, and every format is turned once into a slf4j pattern, so the arguments are
+ * rendered by slf4j instead of String.format parsing the format on every call. The format must be
+ * a constant, the arguments ids and counts rather than whole payloads. A throwable given as the last
+ * argument is logged with its stack trace
+ */
+public final class MessageLogger {
+
+    private static final int MAX_PATTERNS = 1024;
+    private static final Map<String, String> PATTERNS = new ConcurrentHashMap<>();
+
+    private final Logger logger;
+
+    private MessageLogger(Logger logger) {
+        this.logger = logger;
+    }
+
+    public static MessageLogger getLogger(Class<?> type) {
+        return new MessageLogger(LoggerFactory.getLogger(type));
+    }
+
+    public boolean isDebugEnabled() {
+        return logger.isDebugEnabled();
+    }
+
+    public boolean isInfoEnabled() {
+        return logger.isInfoEnabled();
+    }
+
+    public void debug(String format, Object argument) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(pattern(format), argument);
+        }
+    }
+
+    public void debug(String format, Object... arguments) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(pattern(format), arguments);
+        }
+    }
+
+    public void info(String format, Object argument) {
+        if (logger.isInfoEnabled()) {
+            logger.info(pattern(format), argument);
+        }
+    }
+
+    public void info(String format, Object first, Object second) {
+        if (logger.isInfoEnabled()) {
+            logger.info(pattern(format), first, second);
+        }
+    }
+
+    public void info(String format, Object... arguments) {
+        if (logger.isInfoEnabled()) {
+            logger.info(pattern(format), arguments);
+        }
+    }
+
+    public void warn(String format, Object... arguments) {
+        if (logger.isWarnEnabled()) {
+            logger.warn(pattern(format), arguments);
+        }
+    }
+
+    public void error(String format, Object... arguments) {
+        if (logger.isErrorEnabled()) {
+            logger.error(pattern(format), arguments);
+        }
+    }
+
+    /**
+     * A format built at runtime is translated but not cached, so it can not grow the cache
+     */
+    private static String pattern(String format) {
+        String pattern = PATTERNS.get(format);
+        if (pattern == null) {
+            pattern = toPattern(format);
+            if (PATTERNS.size() < MAX_PATTERNS) {
+                PATTERNS.put(format, pattern);
+            }
+        }
+        return pattern;
+    }
+
+    /**
+     * The formats only use %s, a literal {} is escaped so slf4j does not take it as an argument
+     */
+    static String toPattern(String format) {
+        return format.replace("{}", "\\{}").replace("%s", "{}");
+    }
+}
@@ -0,0 +1,30 @@
+package com.food.ordering.system.order.service.domain.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LogSamplerTest {
+
+    @Test
+    void sample_whenRateThree_thenFirstOfEveryThreeCalls() {
+        assertEquals(List.of(true, false, false, true, false, false, true), samples(new LogSampler(3), 7));
+    }
+
+    @Test
+    void sample_whenRateOneOrLess_thenEveryCall() {
+        assertEquals(List.of(true, true, true), samples(new LogSampler(1), 3));
+        assertEquals(List.of(true, true, true), samples(new LogSampler(0), 3));
+    }
+
+    private List<Boolean> samples(LogSampler logSampler, int calls) {
+        List<Boolean> samples = new ArrayList<>(calls);
+        for (int i = 0; i < calls; i++) {
+            samples.add(logSampler.sample());
+        }
+        return samples;
+    }
+}
@@ -0,0 +1,24 @@
+package com.food.ordering.system.order.service.domain.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MessageLoggerTest {
+
+    @Test
+    void toPattern_whenFormatHasPlaceholders_thenSlf4jPlaceholders() {
+        assertEquals("{} of {} responses applied to {} orders",
+                MessageLogger.toPattern(MessageConstants.ORDER_RESPONSES_APPLIED));
+    }
+
+    @Test
+    void toPattern_whenFormatHasLiteralBraces_thenBracesEscaped() {
+        assertEquals("Payload \\{} of order {}", MessageLogger.toPattern("Payload {} of order %s"));
+    }
+
+    @Test
+    void toPattern_whenFormatHasNoPlaceholders_thenUnchanged() {
+        assertEquals(MessageConstants.OUTBOX_DRAINER_FAILED, MessageLogger.toPattern(MessageConstants.OUTBOX_DRAINER_FAILED));
+    }
+}
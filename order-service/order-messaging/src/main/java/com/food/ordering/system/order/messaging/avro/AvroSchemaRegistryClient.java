@@ -0,0 +1,17 @@
+package com.food.ordering.system.order.messaging.avro;
+
+import org.apache.avro.Schema;
+
+/**
+ * The two schema registry calls the {@link OrderAvroCodec} needs, schema ids are resolved
+ * when the codec is created and when a record written with an unknown id is read
+ */
+public interface AvroSchemaRegistryClient {
+
+    /**
+     * Registers the schema under the subject, or returns its id when already registered
+     */
+    int register(String subject, Schema schema);
+
+    Schema getById(int id);
+}
@@ -0,0 +1,37 @@
+package com.food.ordering.system.order.messaging.avro;
+
+import org.apache.avro.Schema;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local schema registry for tests, benchmarks and runs without a registry. Like the registry,
+ * the same schema gets the same id whatever subject it is registered under
+ */
+public class InMemoryAvroSchemaRegistryClient implements AvroSchemaRegistryClient {
+
+    private final Map<Schema, Integer> idsBySchema = new ConcurrentHashMap<>();
+    private final Map<Integer, Schema> schemasById = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger(1);
+
+    @Override
+    public int register(String subject, Schema schema) {
+        return idsBySchema.computeIfAbsent(schema, newSchema -> {
+            int id = nextId.getAndIncrement();
+            schemasById.put(id, newSchema);
+            return id;
+        });
+    }
+
+    @Override
+    public Schema getById(int id) {
+        Schema schema = schemasById.get(id);
+        if (schema == null) {
+            throw new SerializationException("Schema id " + id + " not found in the registry");
+        }
+        return schema;
+    }
+}
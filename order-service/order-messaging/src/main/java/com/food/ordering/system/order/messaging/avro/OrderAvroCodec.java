@@ -0,0 +1,177 @@
+package com.food.ordering.system.order.messaging.avro;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Avro codec of the kafka-model records, in the schema registry wire format: a zero magic byte,
+ * the schema id as a big endian int and the Avro binary record.
+ * <p>
+ * Schemas are registered once when the codec is created, under their full record name as the
+ * registry record name strategy does, so the schema id does not depend on the topic. Writers are
+ * created once per record class and readers once per writer schema id. Encode buffers, encoders
+ * and decoders are taken from a pool of idle ones and returned after each record, the only
+ * allocation per record is the returned array. The pool does not depend on the calling thread,
+ * so virtual threads started per task reuse them as well, and it keeps at most one idle set per
+ * processor
+ */
+public class OrderAvroCodec {
+
+    private static final byte MAGIC_BYTE = 0x0;
+    private static final int HEADER_BYTES = 5;
+
+    private final AvroSchemaRegistryClient schemaRegistryClient;
+    private final int initialBufferBytes;
+    private final int maxRetainedBufferBytes;
+    private final Map<Class<?>, RecordWriter> writersByClass;
+    private final Map<Integer, SpecificDatumReader<SpecificRecordBase>> readersBySchemaId = new ConcurrentHashMap<>();
+    private final BlockingQueue<CodecBuffers> idleBuffers =
+            new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+    public OrderAvroCodec(AvroSchemaRegistryClient schemaRegistryClient,
+                          List<Class<? extends SpecificRecordBase>> recordClasses,
+                          int initialBufferBytes,
+                          int maxRetainedBufferBytes) {
+        this.schemaRegistryClient = schemaRegistryClient;
+        this.initialBufferBytes = initialBufferBytes;
+        this.maxRetainedBufferBytes = maxRetainedBufferBytes;
+        Map<Class<?>, RecordWriter> writers = new HashMap<>();
+        for (Class<? extends SpecificRecordBase> recordClass : recordClasses) {
+            SpecificData model = SpecificData.getForClass(recordClass);
+            Schema schema = model.getSchema(recordClass);
+            int schemaId = schemaRegistryClient.register(schema.getFullName(), schema);
+            writers.put(recordClass, new RecordWriter(schemaId, new SpecificDatumWriter<>(schema, model)));
+            readersBySchemaId.put(schemaId, new SpecificDatumReader<>(schema, schema, model));
+        }
+        this.writersByClass = Map.copyOf(writers);
+    }
+
+    public byte[] serialize(SpecificRecordBase record) {
+        if (record == null) {
+            return null;
+        }
+        RecordWriter writer = writersByClass.get(record.getClass());
+        if (writer == null) {
+            throw new SerializationException("No Avro writer for " + record.getClass().getName());
+        }
+        CodecBuffers codecBuffers = acquireBuffers();
+        ReusableByteArrayOutputStream out = codecBuffers.out;
+        try {
+            out.write(MAGIC_BYTE);
+            out.writeInt(writer.schemaId);
+            codecBuffers.encoder = EncoderFactory.get().binaryEncoder(out, codecBuffers.encoder);
+            writer.datumWriter.write(record, codecBuffers.encoder);
+            codecBuffers.encoder.flush();
+            return out.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Could not serialize " + record.getClass().getName(), e);
+        } finally {
+            releaseBuffers(codecBuffers, true);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends SpecificRecordBase> T deserialize(byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length < HEADER_BYTES || data[0] != MAGIC_BYTE) {
+            throw new SerializationException("Unknown magic byte, the record is not in the schema registry format");
+        }
+        int schemaId = ((data[1] & 0xFF) << 24) | ((data[2] & 0xFF) << 16) | ((data[3] & 0xFF) << 8) | (data[4] & 0xFF);
+        SpecificDatumReader<SpecificRecordBase> reader = readersBySchemaId.computeIfAbsent(schemaId, this::createReader);
+        CodecBuffers codecBuffers = acquireBuffers();
+        try {
+            codecBuffers.decoder = DecoderFactory.get()
+                    .binaryDecoder(data, HEADER_BYTES, data.length - HEADER_BYTES, codecBuffers.decoder);
+            return (T) reader.read(null, codecBuffers.decoder);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Could not deserialize a record of schema id " + schemaId, e);
+        } finally {
+            releaseBuffers(codecBuffers, false);
+        }
+    }
+
+    /**
+     * Records written with a schema the codec did not register, like an older or newer version,
+     * are resolved to the generated class of the same name
+     */
+    private SpecificDatumReader<SpecificRecordBase> createReader(int schemaId) {
+        Schema writerSchema = schemaRegistryClient.getById(schemaId);
+        Class<?> recordClass = SpecificData.get().getClass(writerSchema);
+        if (recordClass == null || !SpecificRecordBase.class.isAssignableFrom(recordClass)) {
+            throw new SerializationException("No generated class for schema " + writerSchema.getFullName());
+        }
+        SpecificData model = SpecificData.getForClass(recordClass);
+        return new SpecificDatumReader<>(writerSchema, model.getSchema(recordClass), model);
+    }
+
+    private CodecBuffers acquireBuffers() {
+        CodecBuffers codecBuffers = idleBuffers.poll();
+        return codecBuffers != null ? codecBuffers : new CodecBuffers(initialBufferBytes);
+    }
+
+    /**
+     * Buffers grown past maxRetainedBufferBytes are dropped, as are the sets returned while
+     * the pool is already full
+     */
+    private void releaseBuffers(CodecBuffers codecBuffers, boolean written) {
+        if (written) {
+            if (codecBuffers.out.capacity() > maxRetainedBufferBytes) {
+                codecBuffers.out = new ReusableByteArrayOutputStream(initialBufferBytes);
+                codecBuffers.encoder = null;
+            } else {
+                codecBuffers.out.reset();
+            }
+        }
+        idleBuffers.offer(codecBuffers);
+    }
+
+    private record RecordWriter(int schemaId, SpecificDatumWriter<SpecificRecordBase> datumWriter) {
+    }
+
+    private static final class CodecBuffers {
+        private ReusableByteArrayOutputStream out;
+        private BinaryEncoder encoder;
+        private BinaryDecoder decoder;
+
+        private CodecBuffers(int initialBufferBytes) {
+            this.out = new ReusableByteArrayOutputStream(initialBufferBytes);
+        }
+    }
+
+    private static final class ReusableByteArrayOutputStream extends ByteArrayOutputStream {
+
+        private ReusableByteArrayOutputStream(int size) {
+            super(size);
+        }
+
+        private int capacity() {
+            return buf.length;
+        }
+
+        private void writeInt(int value) {
+            write(value >>> 24);
+            write(value >>> 16);
+            write(value >>> 8);
+            write(value);
+        }
+    }
+}
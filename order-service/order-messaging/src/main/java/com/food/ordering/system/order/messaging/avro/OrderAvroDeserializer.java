@@ -0,0 +1,25 @@
+package com.food.ordering.system.order.messaging.avro;
+
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Shared by every consumer of the listener containers, closing a consumer leaves the codec open
+ */
+public class OrderAvroDeserializer implements Deserializer<SpecificRecordBase> {
+
+    private final OrderAvroCodec orderAvroCodec;
+
+    public OrderAvroDeserializer(OrderAvroCodec orderAvroCodec) {
+        this.orderAvroCodec = orderAvroCodec;
+    }
+
+    @Override
+    public SpecificRecordBase deserialize(String topic, byte[] data) {
+        return orderAvroCodec.deserialize(data);
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,25 @@
+package com.food.ordering.system.order.messaging.avro;
+
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Shared by every producer, closing a producer leaves the codec open
+ */
+public class OrderAvroSerializer implements Serializer<SpecificRecordBase> {
+
+    private final OrderAvroCodec orderAvroCodec;
+
+    public OrderAvroSerializer(OrderAvroCodec orderAvroCodec) {
+        this.orderAvroCodec = orderAvroCodec;
+    }
+
+    @Override
+    public byte[] serialize(String topic, SpecificRecordBase data) {
+        return orderAvroCodec.serialize(data);
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,78 @@
+package com.food.ordering.system.order.messaging.avro;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.avro.Schema;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Schema registry REST API client, only called while the codec resolves its schema ids
+ */
+public class RestAvroSchemaRegistryClient implements AvroSchemaRegistryClient {
+
+    private static final String CONTENT_TYPE = "application/vnd.schemaregistry.v1+json";
+
+    private final String baseUrl;
+    private final Duration timeout;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    /**
+     * @param schemaRegistryUrl comma separated urls, the first one is used
+     */
+    public RestAvroSchemaRegistryClient(String schemaRegistryUrl, Duration timeout, ObjectMapper objectMapper) {
+        String url = schemaRegistryUrl.split(",")[0].trim();
+        this.baseUrl = url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+        this.timeout = timeout;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    @Override
+    public int register(String subject, Schema schema) {
+        try {
+            String body = objectMapper.writeValueAsString(Map.of("schema", schema.toString()));
+            JsonNode response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/subjects/" +
+                            URLEncoder.encode(subject, StandardCharsets.UTF_8) + "/versions"))
+                    .header("Content-Type", CONTENT_TYPE)
+                    .POST(HttpRequest.BodyPublishers.ofString(body)));
+            return response.get("id").asInt();
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("Could not register the schema of subject " + subject, e);
+        }
+    }
+
+    @Override
+    public Schema getById(int id) {
+        JsonNode response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/schemas/ids/" + id)).GET());
+        return new Schema.Parser().parse(response.get("schema").asText());
+    }
+
+    private JsonNode send(HttpRequest.Builder request) {
+        HttpRequest httpRequest = request.timeout(timeout).header("Accept", CONTENT_TYPE).build();
+        try {
+            HttpResponse<String> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new SerializationException("Schema registry answered " + response.statusCode() +
+                        " to " + httpRequest.uri() + ": " + response.body());
+            }
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new SerializationException("Schema registry call to " + httpRequest.uri() + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SerializationException("Schema registry call to " + httpRequest.uri() + " interrupted", e);
+        }
+    }
+}
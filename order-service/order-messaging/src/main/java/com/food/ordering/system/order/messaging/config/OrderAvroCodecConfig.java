@@ -0,0 +1,66 @@
+package com.food.ordering.system.order.messaging.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.kafka.config.data.KafkaConfigData;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.order.messaging.avro.AvroSchemaRegistryClient;
+import com.food.ordering.system.order.messaging.avro.OrderAvroCodec;
+import com.food.ordering.system.order.messaging.avro.OrderAvroDeserializer;
+import com.food.ordering.system.order.messaging.avro.OrderAvroSerializer;
+import com.food.ordering.system.order.messaging.avro.RestAvroSchemaRegistryClient;
+import lombok.RequiredArgsConstructor;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The serializer and deserializer beans replace the configured value serializer classes in the
+ * kafka producer and consumer factories. The schema ids are resolved when the context starts,
+ * an unreachable registry fails the startup instead of the first send
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "order-avro-codec", name = "enabled", havingValue = "true")
+public class OrderAvroCodecConfig {
+
+    private final OrderAvroCodecConfigData orderAvroCodecConfigData;
+    private final KafkaConfigData kafkaConfigData;
+
+    @Bean
+    @ConditionalOnMissingBean
+    public AvroSchemaRegistryClient avroSchemaRegistryClient(ObjectMapper objectMapper) {
+        return new RestAvroSchemaRegistryClient(kafkaConfigData.getSchemaRegistryUrl(),
+                Duration.ofMillis(orderAvroCodecConfigData.getRegistryTimeoutMs()), objectMapper);
+    }
+
+    @Bean
+    public OrderAvroCodec orderAvroCodec(AvroSchemaRegistryClient avroSchemaRegistryClient) {
+        return new OrderAvroCodec(avroSchemaRegistryClient,
+                List.of(PaymentRequestAvroModel.class,
+                        PaymentResponseAvroModel.class,
+                        RestaurantApprovalRequestAvroModel.class,
+                        RestaurantApprovalResponseAvroModel.class),
+                orderAvroCodecConfigData.getInitialBufferBytes(),
+                orderAvroCodecConfigData.getMaxRetainedBufferBytes());
+    }
+
+    @Bean
+    public Serializer<SpecificRecordBase> orderAvroSerializer(OrderAvroCodec orderAvroCodec) {
+        return new OrderAvroSerializer(orderAvroCodec);
+    }
+
+    @Bean
+    public Deserializer<SpecificRecordBase> orderAvroDeserializer(OrderAvroCodec orderAvroCodec) {
+        return new OrderAvroDeserializer(orderAvroCodec);
+    }
+}
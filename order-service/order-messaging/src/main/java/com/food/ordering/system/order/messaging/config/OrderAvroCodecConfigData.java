@@ -0,0 +1,21 @@
+package com.food.ordering.system.order.messaging.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * <p> When enabled the order service serializes and deserializes the kafka-model records with
+ * its own codec instead of the configured serializer classes <p/>
+ * <p> Every thread keeps an encode buffer of initialBufferBytes, a buffer grown by a large
+ * record past maxRetainedBufferBytes is dropped after use <p/>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-avro-codec")
+public class OrderAvroCodecConfigData {
+    private Boolean enabled = false;
+    private Integer initialBufferBytes = 1024;
+    private Integer maxRetainedBufferBytes = 65536;
+    private Integer registryTimeoutMs = 5000;
+}
@@ -0,0 +1,54 @@
+package com.food.ordering.system.order.messaging.listener.kafka;
+
+import com.food.ordering.system.kafka.consumer.KafkaConsumer;
+import com.food.ordering.system.kafka.consumer.KafkaConsumerTracing;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.order.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import com.food.ordering.system.order.service.domain.utils.MessageLogger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.PAYMENT_RESPONSES_RECEIVED;
+
+/**
+ * Payment responses are keyed by order id, so the responses of an order come from one partition
+ * in order. The whole poll is handed to the application service in one call, its offsets are
+ * committed by the container once the call returns. The batch is processed within a span of
+ * its own, the response of every traced request continues the trace of the request
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentResponseKafkaListener implements KafkaConsumer<PaymentResponseAvroModel> {
+
+    private static final MessageLogger log = MessageLogger.getLogger(PaymentResponseKafkaListener.class);
+
+    private final PaymentResponseMessageListener paymentResponseMessageListener;
+    private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final KafkaConsumerTracing kafkaConsumerTracing;
+
+    @Override
+    @KafkaListener(id = "${kafka-consumer-config.payment-consumer-group-id}",
+            topics = "${order-service.payment-response-topic-name}")
+    public void receive(@Payload List<PaymentResponseAvroModel> messages,
+                        @Header(KafkaHeaders.RECEIVED_KEY) List<String> keys,
+                        @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
+                        @Header(KafkaHeaders.OFFSET) List<Long> offsets,
+                        @Header(name = KafkaHeaders.BATCH_CONVERTED_HEADERS, required = false)
+                        List<Map<String, Object>> headers) {
+        log.debug(PAYMENT_RESPONSES_RECEIVED, messages.size(), keys, partitions, offsets);
+        kafkaConsumerTracing.traceBatch(orderServiceConfigData.getPaymentResponseTopicName(),
+                messages.size(), headers, () -> paymentResponseMessageListener.paymentResponsesReceived(messages.stream()
+                        .map(orderMessagingDataMapper::paymentResponseAvroModelToPaymentResponse)
+                        .toList()));
+    }
+}
@@ -0,0 +1,53 @@
+package com.food.ordering.system.order.messaging.listener.kafka;
+
+import com.food.ordering.system.kafka.consumer.KafkaConsumer;
+import com.food.ordering.system.kafka.consumer.KafkaConsumerTracing;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.order.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
+import com.food.ordering.system.order.service.domain.utils.MessageLogger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.RESTAURANT_APPROVAL_RESPONSES_RECEIVED;
+
+/**
+ * Approval responses are keyed by order id. Like the payment responses, the whole poll is
+ * applied in one transaction and its offsets are committed once the call returns, within the
+ * batch span that continues the traces of the responses like for the payment responses
+ */
+@Component
+@RequiredArgsConstructor
+public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<RestaurantApprovalResponseAvroModel> {
+
+    private static final MessageLogger log = MessageLogger.getLogger(RestaurantApprovalResponseKafkaListener.class);
+
+    private final RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener;
+    private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final KafkaConsumerTracing kafkaConsumerTracing;
+
+    @Override
+    @KafkaListener(id = "${kafka-consumer-config.restaurant-approval-consumer-group-id}",
+            topics = "${order-service.restaurant-approval-response-topic-name}")
+    public void receive(@Payload List<RestaurantApprovalResponseAvroModel> messages,
+                        @Header(KafkaHeaders.RECEIVED_KEY) List<String> keys,
+                        @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
+                        @Header(KafkaHeaders.OFFSET) List<Long> offsets,
+                        @Header(name = KafkaHeaders.BATCH_CONVERTED_HEADERS, required = false)
+                        List<Map<String, Object>> headers) {
+        log.debug(RESTAURANT_APPROVAL_RESPONSES_RECEIVED, messages.size(), keys, partitions, offsets);
+        kafkaConsumerTracing.traceBatch(orderServiceConfigData.getRestaurantApprovalResponseTopicName(),
+                messages.size(), headers, () -> restaurantApprovalResponseMessageListener.approvalResponsesReceived(messages.stream()
+                        .map(orderMessagingDataMapper::approvalResponseAvroModelToApprovalResponse)
+                        .toList()));
+    }
+}
@@ -0,0 +1,111 @@
+package com.food.ordering.system.order.messaging.mapper;
+
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.Product;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventProduct;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class OrderMessagingDataMapper {
+
+    /**
+     * Scale of the decimal prices in the request schemas, the same as {@link
+     * com.food.ordering.system.domain.valueobject.Money}
+     */
+    private static final int PRICE_SCALE = 2;
+
+    /**
+     * The message, saga and order ids come from the outbox message as UUIDs, only the
+     * customer id of the payload is parsed
+     */
+    public PaymentRequestAvroModel paymentEventPayloadToPaymentRequestAvroModel(
+            OrderOutboxMessage orderOutboxMessage, OrderPaymentEventPayload orderPaymentEventPayload) {
+        return PaymentRequestAvroModel.newBuilder()
+                .setId(orderOutboxMessage.getId())
+                .setSagaId(orderOutboxMessage.getSagaId())
+                .setCustomerId(UUID.fromString(orderPaymentEventPayload.getCustomerId()))
+                .setOrderId(orderOutboxMessage.getOrderId())
+                .setPrice(toPriceScale(orderPaymentEventPayload.getPrice()))
+                .setCreatedAt(orderPaymentEventPayload.getCreatedAt().toInstant())
+                .setPaymentOrderStatus(PaymentOrderStatus.valueOf(orderPaymentEventPayload.getPaymentOrderStatus()))
+                .build();
+    }
+
+    /**
+     * Product ids are already strings in the payload and in the schema, they are copied as they
+     * are. Products are built with the record constructor into a list of the final size, a
+     * builder per product would double the allocations of large orders
+     */
+    public RestaurantApprovalRequestAvroModel approvalEventPayloadToRestaurantApprovalRequestAvroModel(
+            OrderOutboxMessage orderOutboxMessage, OrderApprovalEventPayload orderApprovalEventPayload) {
+        List<OrderApprovalEventProduct> payloadProducts = orderApprovalEventPayload.getProducts();
+        List<Product> products = new ArrayList<>(payloadProducts.size());
+        for (OrderApprovalEventProduct product : payloadProducts) {
+            products.add(new Product(product.getId(), product.getQuantity()));
+        }
+        return RestaurantApprovalRequestAvroModel.newBuilder()
+                .setId(orderOutboxMessage.getId())
+                .setSagaId(orderOutboxMessage.getSagaId())
+                .setRestaurantId(UUID.fromString(orderApprovalEventPayload.getRestaurantId()))
+                .setOrderId(orderOutboxMessage.getOrderId())
+                .setRestaurantOrderStatus(RestaurantOrderStatus.valueOf(
+                        orderApprovalEventPayload.getRestaurantOrderStatus()))
+                .setProducts(products)
+                .setPrice(toPriceScale(orderApprovalEventPayload.getPrice()))
+                .setCreatedAt(orderApprovalEventPayload.getCreatedAt().toInstant())
+                .build();
+    }
+
+    public PaymentResponse paymentResponseAvroModelToPaymentResponse(PaymentResponseAvroModel paymentResponseAvroModel) {
+        return PaymentResponse.builder()
+                .id(paymentResponseAvroModel.getId().toString())
+                .sagaId(paymentResponseAvroModel.getSagaId().toString())
+                .paymentId(paymentResponseAvroModel.getPaymentId().toString())
+                .customerId(paymentResponseAvroModel.getCustomerId().toString())
+                .orderId(paymentResponseAvroModel.getOrderId().toString())
+                .price(paymentResponseAvroModel.getPrice())
+                .createdAt(paymentResponseAvroModel.getCreatedAt())
+                .paymentStatus(PaymentStatus.valueOf(paymentResponseAvroModel.getPaymentStatus().name()))
+                .failureMessages(paymentResponseAvroModel.getFailureMessages())
+                .build();
+    }
+
+    public RestaurantApprovalResponse approvalResponseAvroModelToApprovalResponse(
+            RestaurantApprovalResponseAvroModel restaurantApprovalResponseAvroModel) {
+        return RestaurantApprovalResponse.builder()
+                .id(restaurantApprovalResponseAvroModel.getId().toString())
+                .sagaId(restaurantApprovalResponseAvroModel.getSagaId().toString())
+                .restaurantId(restaurantApprovalResponseAvroModel.getRestaurantId().toString())
+                .orderId(restaurantApprovalResponseAvroModel.getOrderId().toString())
+                .createdAt(restaurantApprovalResponseAvroModel.getCreatedAt())
+                .orderApprovalStatus(OrderApprovalStatus.valueOf(
+                        restaurantApprovalResponseAvroModel.getOrderApprovalStatus().name()))
+                .failureMessages(restaurantApprovalResponseAvroModel.getFailureMessages())
+                .build();
+    }
+
+    /**
+     * Prices written from a Money already have the schema scale and are passed as they are
+     */
+    private BigDecimal toPriceScale(BigDecimal price) {
+        return price.scale() == PRICE_SCALE ? price : price.setScale(PRICE_SCALE, RoundingMode.HALF_EVEN);
+    }
+}
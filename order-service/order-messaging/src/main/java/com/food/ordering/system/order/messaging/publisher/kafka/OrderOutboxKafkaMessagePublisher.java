@@ -0,0 +1,127 @@
+package com.food.ordering.system.order.messaging.publisher.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.kafka.producer.KafkaMessageHelper;
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.order.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.outbox.OrderOutboxMessagePublisher;
+import com.food.ordering.system.order.service.domain.utils.MessageLogger;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import lombok.RequiredArgsConstructor;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.OUTBOX_PAYLOAD_DESERIALIZATION_ERROR;
+import static com.food.ordering.system.order.service.domain.utils.MessageConstants.OUTBOX_TRACE_CONTEXT_NOT_READ;
+
+/**
+ * Publishes the outbox messages as Avro requests keyed by order id, so the requests of an order
+ * stay in one partition. The returned future completes with the broker ack. A message is
+ * published within a span continuing the trace of the order change that saved it
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderOutboxKafkaMessagePublisher implements OrderOutboxMessagePublisher {
+
+    private static final MessageLogger log = MessageLogger.getLogger(OrderOutboxKafkaMessagePublisher.class);
+
+    private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final OrderServiceConfigData orderServiceConfigData;
+    private final KafkaProducer<String, SpecificRecordBase> kafkaProducer;
+    private final KafkaMessageHelper kafkaMessageHelper;
+    private final ObjectMapper objectMapper;
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    @Override
+    public CompletableFuture<Void> publish(OrderOutboxMessage orderOutboxMessage) {
+        return switch (orderOutboxMessage.getType()) {
+            case PAYMENT_REQUEST -> send(orderServiceConfigData.getPaymentRequestTopicName(), orderOutboxMessage,
+                    orderMessagingDataMapper.paymentEventPayloadToPaymentRequestAvroModel(orderOutboxMessage,
+                            readPayload(orderOutboxMessage, OrderPaymentEventPayload.class)));
+            case RESTAURANT_APPROVAL_REQUEST -> send(orderServiceConfigData.getRestaurantApprovalRequestTopicName(),
+                    orderOutboxMessage,
+                    orderMessagingDataMapper.approvalEventPayloadToRestaurantApprovalRequestAvroModel(orderOutboxMessage,
+                            readPayload(orderOutboxMessage, OrderApprovalEventPayload.class)));
+        };
+    }
+
+    /**
+     * The producer span of the send is a child of the publish span
+     */
+    private CompletableFuture<Void> send(String topicName, OrderOutboxMessage orderOutboxMessage,
+                                         SpecificRecordBase avroModel) {
+        String orderId = orderOutboxMessage.getOrderId().toString();
+        Span span = startPublishSpan(orderOutboxMessage);
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            return kafkaProducer.sendAsync(topicName, orderId, avroModel,
+                            kafkaMessageHelper.getKafkaAsyncCallback(topicName, orderId, avroModel.getSchema().getName()))
+                    .whenComplete((result, throwable) -> endSpan(span, throwable))
+                    .thenApply(result -> null);
+        } catch (RuntimeException e) {
+            endSpan(span, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Messages saved without a trace context start a trace of their own
+     */
+    private Span startPublishSpan(OrderOutboxMessage orderOutboxMessage) {
+        Map<String, String> traceContext = readTraceContext(orderOutboxMessage);
+        Span.Builder spanBuilder = traceContext.isEmpty()
+                ? tracer.spanBuilder().setNoParent()
+                : propagator.extract(traceContext, Map::get);
+        return spanBuilder
+                .name("outbox publish")
+                .tag("outbox.message.type", orderOutboxMessage.getType().name())
+                .tag("outbox.message.id", orderOutboxMessage.getId().toString())
+                .start();
+    }
+
+    /**
+     * An unreadable trace context only breaks the trace, the message is still published
+     */
+    private Map<String, String> readTraceContext(OrderOutboxMessage orderOutboxMessage) {
+        if (orderOutboxMessage.getTraceContext() == null) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(orderOutboxMessage.getTraceContext(), new TypeReference<>() {
+            });
+        } catch (JsonProcessingException e) {
+            log.warn(OUTBOX_TRACE_CONTEXT_NOT_READ, orderOutboxMessage.getType(), orderOutboxMessage.getId(), e);
+            return Map.of();
+        }
+    }
+
+    private static void endSpan(Span span, Throwable throwable) {
+        if (throwable != null) {
+            span.error(throwable);
+        }
+        span.end();
+    }
+
+    private <T> T readPayload(OrderOutboxMessage orderOutboxMessage, Class<T> payloadType) {
+        try {
+            return objectMapper.readValue(orderOutboxMessage.getPayload(), payloadType);
+        } catch (JsonProcessingException e) {
+            String errorMessage = String.format(OUTBOX_PAYLOAD_DESERIALIZATION_ERROR,
+                    orderOutboxMessage.getType(), orderOutboxMessage.getId());
+            log.error(OUTBOX_PAYLOAD_DESERIALIZATION_ERROR, orderOutboxMessage.getType(), orderOutboxMessage.getId(), e);
+            throw new OrderDomainException(errorMessage, e);
+        }
+    }
+}
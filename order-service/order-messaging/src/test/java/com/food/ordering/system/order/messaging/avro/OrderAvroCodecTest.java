@@ -0,0 +1,143 @@
+package com.food.ordering.system.order.messaging.avro;
+
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OrderAvroCodecTest {
+
+    private InMemoryAvroSchemaRegistryClient schemaRegistryClient;
+    private OrderAvroCodec orderAvroCodec;
+
+    @BeforeEach
+    void init() {
+        schemaRegistryClient = new InMemoryAvroSchemaRegistryClient();
+        orderAvroCodec = new OrderAvroCodec(schemaRegistryClient,
+                List.of(PaymentResponseAvroModel.class, RestaurantApprovalResponseAvroModel.class), 16, 64);
+    }
+
+    @Test
+    void serialize_whenPaymentResponse_thenRegistryWireFormatReadBack() {
+        PaymentResponseAvroModel paymentResponse = samplePaymentResponse();
+
+        byte[] data = orderAvroCodec.serialize(paymentResponse);
+
+        assertEquals(0, data[0]);
+        assertEquals(schemaRegistryClient.register(PaymentResponseAvroModel.getClassSchema().getFullName(),
+                PaymentResponseAvroModel.getClassSchema()), ByteBuffer.wrap(data, 1, 4).getInt());
+        assertEquals(paymentResponse, orderAvroCodec.deserialize(data));
+        // Encoded again after the buffer grew past the retained size
+        assertEquals(paymentResponse, orderAvroCodec.deserialize(orderAvroCodec.serialize(paymentResponse)));
+    }
+
+    @Test
+    void serialize_whenCalledFromManyVirtualThreads_thenEveryRecordReadBack()
+            throws ExecutionException, InterruptedException {
+        List<Future<?>> roundTrips = new ArrayList<>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 1000; i++) {
+                roundTrips.add(executor.submit(() -> {
+                    PaymentResponseAvroModel paymentResponse = samplePaymentResponse();
+                    assertEquals(paymentResponse, orderAvroCodec.deserialize(orderAvroCodec.serialize(paymentResponse)));
+                }));
+            }
+        }
+        for (Future<?> roundTrip : roundTrips) {
+            roundTrip.get();
+        }
+    }
+
+    @Test
+    void deserialize_whenWrittenWithNewerSchema_thenResolvedFromRegistry() throws IOException {
+        Schema newerSchema = SchemaBuilder.record(PaymentResponseAvroModel.getClassSchema().getName())
+                .namespace(PaymentResponseAvroModel.getClassSchema().getNamespace())
+                .fields()
+                .requiredString("id")
+                .requiredString("sagaId")
+                .requiredString("paymentId")
+                .requiredString("customerId")
+                .requiredString("orderId")
+                .name("price").type(PaymentResponseAvroModel.getClassSchema().getField("price").schema()).noDefault()
+                .requiredLong("createdAt")
+                .name("paymentStatus").type(PaymentResponseAvroModel.getClassSchema().getField("paymentStatus").schema()).noDefault()
+                .name("failureMessages").type().array().items().stringType().noDefault()
+                .requiredString("paymentProvider")
+                .endRecord();
+        int schemaId = schemaRegistryClient.register(newerSchema.getFullName(), newerSchema);
+        PaymentResponseAvroModel expected = samplePaymentResponse();
+        GenericRecord record = new GenericData.Record(newerSchema);
+        record.put("id", expected.getId().toString());
+        record.put("sagaId", expected.getSagaId().toString());
+        record.put("paymentId", expected.getPaymentId().toString());
+        record.put("customerId", expected.getCustomerId().toString());
+        record.put("orderId", expected.getOrderId().toString());
+        record.put("price", ByteBuffer.wrap(expected.getPrice().unscaledValue().toByteArray()));
+        record.put("createdAt", expected.getCreatedAt().toEpochMilli());
+        record.put("paymentStatus", new GenericData.EnumSymbol(
+                newerSchema.getField("paymentStatus").schema(), expected.getPaymentStatus().name()));
+        record.put("failureMessages", expected.getFailureMessages());
+        record.put("paymentProvider", "card");
+
+        PaymentResponseAvroModel paymentResponse = orderAvroCodec.deserialize(write(schemaId, record));
+
+        assertEquals(expected, paymentResponse);
+    }
+
+    @Test
+    void deserialize_whenMagicByteUnknown_thenThrowSerializationException() {
+        byte[] data = orderAvroCodec.serialize(samplePaymentResponse());
+        data[0] = 1;
+
+        assertThrows(SerializationException.class, () -> orderAvroCodec.deserialize(data));
+    }
+
+    private byte[] write(int schemaId, GenericRecord record) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(0);
+        out.write(ByteBuffer.allocate(4).putInt(schemaId).array());
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+        new GenericDatumWriter<GenericRecord>(record.getSchema()).write(record, encoder);
+        encoder.flush();
+        return out.toByteArray();
+    }
+
+    private PaymentResponseAvroModel samplePaymentResponse() {
+        return PaymentResponseAvroModel.newBuilder()
+                .setId(UUID.randomUUID())
+                .setSagaId(UUID.randomUUID())
+                .setPaymentId(UUID.randomUUID())
+                .setCustomerId(UUID.randomUUID())
+                .setOrderId(UUID.randomUUID())
+                .setPrice(new BigDecimal("200.00"))
+                .setCreatedAt(Instant.now().truncatedTo(ChronoUnit.MILLIS))
+                .setPaymentStatus(PaymentStatus.COMPLETED)
+                .setFailureMessages(List.of("a failure message long enough to grow the encode buffer past 64 bytes"))
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+package com.food.ordering.system.order.messaging.publisher.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.producer.KafkaMessageHelper;
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.order.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.order.service.domain.outbox.model.OrderOutboxMessageType;
+import com.food.ordering.system.order.service.domain.outbox.model.OutboxStatus;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventProduct;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.support.SendResult;
+
+import java.math.BigDecimal;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderOutboxKafkaMessagePublisherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private KafkaProducer<String, SpecificRecordBase> kafkaProducer;
+    private OrderOutboxKafkaMessagePublisher orderOutboxKafkaMessagePublisher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void init() {
+        kafkaProducer = mock(KafkaProducer.class);
+        when(kafkaProducer.sendAsync(any(), any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        var orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setPaymentRequestTopicName("payment-request");
+        orderServiceConfigData.setRestaurantApprovalRequestTopicName("restaurant-approval-request");
+        orderOutboxKafkaMessagePublisher = new OrderOutboxKafkaMessagePublisher(new OrderMessagingDataMapper(),
+                orderServiceConfigData, kafkaProducer, new KafkaMessageHelper(new KafkaProducerConfigData()), objectMapper,
+                Tracer.NOOP, mock(Propagator.class));
+    }
+
+    @Test
+    void publish_whenPaymentRequest_thenSentToPaymentTopicAtPriceScale() throws Exception {
+        var payload = OrderPaymentEventPayload.builder()
+                .orderId(UUID.randomUUID().toString())
+                .customerId(UUID.randomUUID().toString())
+                .price(new BigDecimal("200.5"))
+                .createdAt(ZonedDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MILLIS))
+                .paymentOrderStatus(PaymentOrderStatus.PENDING.name())
+                .build();
+        var message = outboxMessage(OrderOutboxMessageType.PAYMENT_REQUEST, payload.getOrderId(), payload);
+
+        orderOutboxKafkaMessagePublisher.publish(message).join();
+
+        var paymentRequest = sentRequest("payment-request", message, PaymentRequestAvroModel.class);
+        assertEquals(message.getId(), paymentRequest.getId());
+        assertEquals(message.getSagaId(), paymentRequest.getSagaId());
+        assertEquals(payload.getCustomerId(), paymentRequest.getCustomerId().toString());
+        assertEquals(new BigDecimal("200.50"), paymentRequest.getPrice());
+        assertEquals(payload.getCreatedAt().toInstant(), paymentRequest.getCreatedAt());
+        assertEquals(PaymentOrderStatus.PENDING, paymentRequest.getPaymentOrderStatus());
+    }
+
+    @Test
+    void publish_whenLargeApprovalRequest_thenAllProductsSentInOrder() throws Exception {
+        List<OrderApprovalEventProduct> products = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            products.add(new OrderApprovalEventProduct(UUID.randomUUID().toString(), i + 1));
+        }
+        var payload = OrderApprovalEventPayload.builder()
+                .orderId(UUID.randomUUID().toString())
+                .restaurantId(UUID.randomUUID().toString())
+                .price(new BigDecimal("1234.00"))
+                .createdAt(ZonedDateTime.now(ZoneOffset.UTC))
+                .restaurantOrderStatus("PAID")
+                .products(products)
+                .build();
+        var message = outboxMessage(OrderOutboxMessageType.RESTAURANT_APPROVAL_REQUEST, payload.getOrderId(), payload);
+
+        orderOutboxKafkaMessagePublisher.publish(message).join();
+
+        var approvalRequest = sentRequest("restaurant-approval-request", message,
+                RestaurantApprovalRequestAvroModel.class);
+        assertEquals(payload.getRestaurantId(), approvalRequest.getRestaurantId().toString());
+        assertEquals(products.size(), approvalRequest.getProducts().size());
+        for (int i = 0; i < products.size(); i++) {
+            assertEquals(products.get(i).getId(), approvalRequest.getProducts().get(i).getId());
+            assertEquals(products.get(i).getQuantity(), approvalRequest.getProducts().get(i).getQuantity());
+        }
+    }
+
+    private <T extends SpecificRecordBase> T sentRequest(String topicName, OrderOutboxMessage message, Class<T> type) {
+        ArgumentCaptor<SpecificRecordBase> request = ArgumentCaptor.forClass(SpecificRecordBase.class);
+        verify(kafkaProducer).sendAsync(eq(topicName), eq(message.getOrderId().toString()), request.capture(), any());
+        assertEquals(message.getOrderId(), request.getValue().get("orderId"));
+        return type.cast(request.getValue());
+    }
+
+    private OrderOutboxMessage outboxMessage(OrderOutboxMessageType type, String orderId, Object payload)
+            throws Exception {
+        return OrderOutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .sagaId(UUID.randomUUID())
+                .orderId(UUID.fromString(orderId))
+                .type(type)
+                .payload(objectMapper.writeValueAsString(payload))
+                .createdAt(ZonedDateTime.now(ZoneOffset.UTC))
+                .outboxStatus(OutboxStatus.STARTED)
+                .build();
+    }
+}